@@ -0,0 +1,24 @@
+package com.weiz.Biblioteca;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class BibliotecaReactiveApplication {
+
+	public static void main(String[] args) {
+		// Cargar el archivo .env
+		Dotenv dotenv = Dotenv.configure()
+				.directory(System.getProperty("user.dir"))
+				.ignoreIfMissing()
+				.load();
+
+		// Establecer las variables como propiedades del sistema
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+
+		// Iniciar la aplicación Spring Boot
+		SpringApplication.run(BibliotecaReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.weiz.Biblioteca.api.controllers;
+
+import com.weiz.Biblioteca.api.requests.AutorRequest;
+import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import com.weiz.Biblioteca.infraestructure.services.imp.IAutorService;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(path = "autores")
+@AllArgsConstructor
+public class AutorController {
+    private final IAutorService autorService;
+
+    // Streamed as the rows arrive: a JSON array, or one JSON document per line with Accept: application/x-ndjson
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<AutorResponse> get() {
+        return autorService.readAll();
+    }
+
+    @GetMapping(path = "page")
+    public Mono<ResponseEntity<PageResponse<AutorResponse>>> getPage(@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        return autorService.readPage(cursor, limit).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(path = "{id}")
+    public Mono<ResponseEntity<AutorResponse>> get(@PathVariable Integer id) {
+        return autorService.readById(id).map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<AutorResponse>> post(@Valid @RequestBody AutorRequest request) {
+        return autorService.create(request).map(ResponseEntity::ok);
+    }
+
+    @PutMapping(path = "{id}")
+    public Mono<ResponseEntity<AutorResponse>> put(@Valid @RequestBody AutorRequest request, @PathVariable Integer id) {
+        return autorService.update(request, id).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping(path = "{id}")
+    public Mono<ResponseEntity<String>> delete(@PathVariable Integer id) {
+        return autorService.delete(id).thenReturn(ResponseEntity.ok("Autor eliminado correctamente"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.weiz.Biblioteca.api.controllers;
+
+import com.weiz.Biblioteca.api.requests.LibroRequest;
+import com.weiz.Biblioteca.api.responses.LibroResponse;
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import com.weiz.Biblioteca.infraestructure.services.imp.ILIbroService;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(path = "libros")
+@AllArgsConstructor
+public class LibroController {
+    private final ILIbroService libroService;
+
+    // Streamed as the rows arrive: a JSON array, or one JSON document per line with Accept: application/x-ndjson
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<LibroResponse> get() {
+        return libroService.readAll();
+    }
+
+    @GetMapping(path = "page")
+    public Mono<ResponseEntity<PageResponse<LibroResponse>>> getPage(@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        return libroService.readPage(cursor, limit).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(path = "{id}")
+    public Mono<ResponseEntity<LibroResponse>> get(@PathVariable Integer id) {
+        return libroService.readById(id).map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<LibroResponse>> post(@Valid @RequestBody LibroRequest request) {
+        return libroService.create(request).map(ResponseEntity::ok);
+    }
+
+    @PutMapping(path = "{id}")
+    public Mono<ResponseEntity<LibroResponse>> put(@Valid @RequestBody LibroRequest request, @PathVariable Integer id) {
+        return libroService.update(request, id).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping(path = "{id}")
+    public Mono<ResponseEntity<String>> delete(@PathVariable Integer id) {
+        return libroService.delete(id).thenReturn(ResponseEntity.ok("Libro eliminado correctamente"));
+    }
+}
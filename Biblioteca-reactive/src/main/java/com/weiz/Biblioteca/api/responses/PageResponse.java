@@ -0,0 +1,18 @@
+package com.weiz.Biblioteca.api.responses;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class PageResponse<T> {
+    private List<T> items;
+    private Integer limit;
+    private String nextCursor;
+}
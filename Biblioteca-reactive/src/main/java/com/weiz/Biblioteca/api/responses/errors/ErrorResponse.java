@@ -0,0 +1,14 @@
+package com.weiz.Biblioteca.api.responses.errors;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class ErrorResponse extends BaseErrorResponse {
+    private String message;
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.weiz.Biblioteca.infraestructure.abstractService;
+
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface CrudService<Req, Res, Id> {
+
+    /**
+     * Streams every record ordered by id. Rows are fetched from the database as the subscriber requests them,
+     * so a slow client never makes the whole table pile up in memory.
+     */
+    Flux<Res> readAll();
+
+    /**
+     * Reads one page of records ordered by id using keyset pagination.
+     *
+     * @param cursor Opaque cursor returned by the previous page, null for the first page.
+     * @param limit  Maximum number of records in the page, null for the default size.
+     * @return The requested page and the cursor of the next one.
+     */
+    Mono<PageResponse<Res>> readPage(String cursor, Integer limit);
+
+    Mono<Res> create(Req request);
+
+    Mono<Res> readById(Id id);
+
+    Mono<Res> update(Req request, Id id);
+
+    Mono<Void> delete(Id id);
+
+}
@@ -0,0 +1,183 @@
+package com.weiz.Biblioteca.infraestructure.services;
+
+import com.weiz.Biblioteca.api.requests.AutorRequest;
+import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import com.weiz.Biblioteca.infraestructure.services.imp.IAutorService;
+import com.weiz.Biblioteca.util.Exceptions.CustomException;
+import com.weiz.Biblioteca.util.Exceptions.IdNotFoundException;
+import com.weiz.Biblioteca.util.Pagination;
+import com.weiz.Biblioteca.util.SqlStates;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+@Service
+@Slf4j
+public class AutorService implements IAutorService {
+
+    private static final String ERROR_CREATING_AUTOR_MESSAGE = "Error al crear autor";
+    private static final String ERROR_UPDATING_AUTOR_MESSAGE = "Error al actualizar autor";
+    private static final String ERROR_DELETING_AUTOR_MESSAGE = "Error al eliminar autor";
+    private static final String ERROR_FETCHING_AUTORES_MESSAGE = "Error al obtener la lista de autores";
+    private static final String ERROR_AUTOR_WITH_LIBROS_MESSAGE = "El autor tiene libros asociados";
+
+    private static final String READ_ALL_SQL = "SELECT * FROM fn_get_autores() ORDER BY autor_id";
+    private static final String READ_BY_ID_SQL = "SELECT * FROM fn_get_autores() WHERE autor_id = :id";
+    private static final String READ_PAGE_SQL = "SELECT * FROM fn_get_autores_page(:afterId, :limit)";
+    // OUT parameters are passed as NULL and come back as a single row with the persisted author
+    private static final String INSERT_SQL = "CALL uspAutorInsert(:p_nombre, :p_apellido, :p_nacionalidad, NULL, NULL, NULL, NULL)";
+    private static final String UPDATE_SQL = "CALL uspAutorUpdate(:p_autor_id, :p_nombre, :p_apellido, :p_nacionalidad, NULL, NULL, NULL, NULL)";
+    private static final String DELETE_SQL = "CALL uspAutorDelete(:p_autor_id)";
+
+    public static final Function<Readable, AutorResponse> AUTOR_ROW_MAPPER = row -> AutorResponse.builder()
+            .id(row.get("autor_id", Integer.class))
+            .nombre(row.get("nombre", String.class))
+            .apellido(row.get("apellido", String.class))
+            .nacionalidad(row.get("nacionalidad", String.class))
+            .build();
+
+    // Maps the OUT parameters returned by the CALL of the write procedures
+    private static final Function<Readable, AutorResponse> PROCEDURE_ROW_MAPPER = row -> AutorResponse.builder()
+            .id(row.get("o_autor_id", Integer.class))
+            .nombre(row.get("o_nombre", String.class))
+            .apellido(row.get("o_apellido", String.class))
+            .nacionalidad(row.get("o_nacionalidad", String.class))
+            .build();
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public AutorService(DatabaseClient databaseClient, @Value("${app.r2dbc.fetch-size:500}") int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    // The procedures raise a SQLSTATE for each expected failure, the message text is only used for the rest
+    private RuntimeException toException(DataAccessException e, String defaultMessage) {
+        if (SqlStates.matches(e, SqlStates.NO_DATA_FOUND)) {
+            return new IdNotFoundException("Autor");
+        }
+        if (SqlStates.matches(e, SqlStates.FOREIGN_KEY_VIOLATION)) {
+            return new CustomException(ERROR_AUTOR_WITH_LIBROS_MESSAGE);
+        }
+        return new CustomException(extractErrorMessage(e, defaultMessage));
+    }
+
+    private String extractErrorMessage(DataAccessException e, String defaultMessage) {
+        String message = e.getMostSpecificCause() != null && e.getMostSpecificCause().getMessage() != null
+                ? e.getMostSpecificCause().getMessage()
+                : defaultMessage;
+        return switch (message) {
+            case String s when s.contains("nombre") -> "El nombre es requerido";
+            case String s when s.contains("apellido") -> "El apellido es requerido";
+            case String s when s.contains("Autor") -> "Autor no encontrado";
+            default -> defaultMessage;
+        };
+    }
+
+    /**
+     * Executes a write procedure and maps the persisted author from its OUT parameters.
+     *
+     * @param procedure           The CALL of uspAutorInsert or uspAutorUpdate, already bound.
+     * @param procedureName       The name of the procedure, for the logs.
+     * @param defaultErrorMessage Default error message to use if the procedure fails.
+     * @return The author after the operation.
+     */
+    private Mono<AutorResponse> executeStoredProcedure(DatabaseClient.GenericExecuteSpec procedure, String procedureName, String defaultErrorMessage) {
+        return procedure.map(PROCEDURE_ROW_MAPPER)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("No se recibió un ID generado desde %s".formatted(procedureName))))
+                .onErrorMap(DataAccessException.class, e -> {
+                    log.error("Error al ejecutar SP {}", procedureName, e);
+                    return toException(e, defaultErrorMessage);
+                });
+    }
+
+    @Override
+    public Flux<AutorResponse> readAll() {
+        return databaseClient.sql(READ_ALL_SQL)
+                // Rows are requested from PostgreSQL in chunks as the response is written, instead of all at once
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(AUTOR_ROW_MAPPER)
+                .all()
+                .onErrorMap(DataAccessException.class, e -> {
+                    log.error("Error al obtener autores", e);
+                    return new CustomException(ERROR_FETCHING_AUTORES_MESSAGE, e);
+                });
+    }
+
+    @Override
+    public Mono<PageResponse<AutorResponse>> readPage(String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int afterId = Pagination.decodeCursor(cursor);
+            int pageSize = Pagination.resolveLimit(limit);
+            // Fetch one extra row to know whether there is a next page
+            return databaseClient.sql(READ_PAGE_SQL)
+                    .bind("afterId", afterId)
+                    .bind("limit", pageSize + 1)
+                    .map(AUTOR_ROW_MAPPER)
+                    .all()
+                    .collectList()
+                    .map(rows -> Pagination.toPage(rows, pageSize, AutorResponse::getId));
+        }).onErrorMap(DataAccessException.class, e -> {
+            log.error("Error al obtener página de autores", e);
+            return new CustomException(ERROR_FETCHING_AUTORES_MESSAGE, e);
+        });
+    }
+
+    @Override
+    public Mono<AutorResponse> create(AutorRequest request) {
+        var procedure = databaseClient.sql(INSERT_SQL)
+                .bind("p_nombre", request.getNombre())
+                .bind("p_apellido", request.getApellido());
+        procedure = bindNacionalidad(procedure, request.getNacionalidad());
+        return executeStoredProcedure(procedure, "uspAutorInsert", ERROR_CREATING_AUTOR_MESSAGE);
+    }
+
+    @Override
+    public Mono<AutorResponse> readById(Integer id) {
+        return databaseClient.sql(READ_BY_ID_SQL)
+                .bind("id", id)
+                .map(AUTOR_ROW_MAPPER)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new IdNotFoundException("Autor")))
+                .onErrorMap(DataAccessException.class, e -> {
+                    log.error("Error al obtener el autor {}", id, e);
+                    return new CustomException(ERROR_FETCHING_AUTORES_MESSAGE, e);
+                });
+    }
+
+    @Override
+    public Mono<AutorResponse> update(AutorRequest request, Integer id) {
+        var procedure = databaseClient.sql(UPDATE_SQL)
+                .bind("p_autor_id", id)
+                .bind("p_nombre", request.getNombre())
+                .bind("p_apellido", request.getApellido());
+        procedure = bindNacionalidad(procedure, request.getNacionalidad());
+        return executeStoredProcedure(procedure, "uspAutorUpdate", ERROR_UPDATING_AUTOR_MESSAGE);
+    }
+
+    @Override
+    public Mono<Void> delete(Integer id) {
+        return databaseClient.sql(DELETE_SQL)
+                .bind("p_autor_id", id)
+                .then()
+                .onErrorMap(DataAccessException.class, e -> {
+                    log.error("Error al ejecutar SP uspAutorDelete", e);
+                    return toException(e, ERROR_DELETING_AUTOR_MESSAGE);
+                });
+    }
+
+    // R2DBC needs the type of a null parameter
+    private static DatabaseClient.GenericExecuteSpec bindNacionalidad(DatabaseClient.GenericExecuteSpec spec, String nacionalidad) {
+        return nacionalidad == null ? spec.bindNull("p_nacionalidad", String.class) : spec.bind("p_nacionalidad", nacionalidad);
+    }
+}
@@ -0,0 +1,191 @@
+package com.weiz.Biblioteca.infraestructure.services;
+
+import com.weiz.Biblioteca.api.requests.LibroRequest;
+import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.LibroResponse;
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import com.weiz.Biblioteca.infraestructure.services.imp.ILIbroService;
+import com.weiz.Biblioteca.util.Exceptions.CustomException;
+import com.weiz.Biblioteca.util.Exceptions.IdNotFoundException;
+import com.weiz.Biblioteca.util.Pagination;
+import com.weiz.Biblioteca.util.SqlStates;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+@Service
+@Slf4j
+public class LibroService implements ILIbroService {
+
+    private static final String ERROR_CREATING_LIBRO_MESSAGE = "Error al crear libro";
+    private static final String ERROR_UPDATING_LIBRO_MESSAGE = "Error al actualizar libro";
+    private static final String ERROR_DELETING_LIBRO_MESSAGE = "Error al eliminar libro";
+    private static final String ERROR_FETCHING_LIBROS_MESSAGE = "Error al obtener la lista de libros";
+    private static final String AUTOR_NOT_FOUND_MESSAGE = "Autor no encontrado";
+
+    private static final String READ_ALL_SQL = "SELECT * FROM fn_get_libros() ORDER BY libro_id";
+    private static final String READ_BY_ID_SQL = "SELECT * FROM fn_get_libros() WHERE libro_id = :id";
+    private static final String READ_PAGE_SQL = "SELECT * FROM fn_get_libros_page(:afterId, :limit)";
+    // OUT parameters are passed as NULL and come back as a single row with the persisted book and its author
+    private static final String INSERT_SQL = "CALL uspLibroInsert(:l_titulo, :l_anio_publicacion, :l_autor_id, NULL, NULL, NULL, NULL, NULL, NULL, NULL)";
+    private static final String UPDATE_SQL = "CALL uspLibroUpdate(:l_libro_id, :l_titulo, :l_anio_publicacion, :l_autor_id, NULL, NULL, NULL, NULL, NULL, NULL, NULL)";
+    private static final String DELETE_SQL = "CALL uspLibroDelete(:l_libro_id)";
+
+    public static final Function<Readable, LibroResponse> LIBRO_ROW_MAPPER = row -> LibroResponse.builder()
+            .id(row.get("libro_id", Integer.class))
+            .titulo(row.get("titulo", String.class))
+            .anioPublicacion(row.get("anio_publicacion", Integer.class))
+            .autor(AutorResponse.builder()
+                    .id(row.get("autor_id", Integer.class))
+                    .nombre(row.get("autor_nombre", String.class))
+                    .apellido(row.get("autor_apellido", String.class))
+                    .nacionalidad(row.get("autor_nacionalidad", String.class))
+                    .build())
+            .build();
+
+    // Maps the OUT parameters returned by the CALL of the write procedures
+    private static final Function<Readable, LibroResponse> PROCEDURE_ROW_MAPPER = row -> LibroResponse.builder()
+            .id(row.get("o_libro_id", Integer.class))
+            .titulo(row.get("o_titulo", String.class))
+            .anioPublicacion(row.get("o_anio_publicacion", Integer.class))
+            .autor(row.get("o_autor_id", Integer.class) == null ? null : AutorResponse.builder()
+                    .id(row.get("o_autor_id", Integer.class))
+                    .nombre(row.get("o_autor_nombre", String.class))
+                    .apellido(row.get("o_autor_apellido", String.class))
+                    .nacionalidad(row.get("o_autor_nacionalidad", String.class))
+                    .build())
+            .build();
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public LibroService(DatabaseClient databaseClient, @Value("${app.r2dbc.fetch-size:500}") int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    // The procedures raise a SQLSTATE for each expected failure, the message text is only used for the rest
+    private RuntimeException toException(DataAccessException e, String defaultMessage) {
+        if (SqlStates.matches(e, SqlStates.NO_DATA_FOUND)) {
+            return new IdNotFoundException("Libro");
+        }
+        if (SqlStates.matches(e, SqlStates.FOREIGN_KEY_VIOLATION)) {
+            return new CustomException(AUTOR_NOT_FOUND_MESSAGE);
+        }
+        return new CustomException(extractErrorMessage(e, defaultMessage));
+    }
+
+    private String extractErrorMessage(DataAccessException e, String defaultMessage) {
+        String message = e.getMostSpecificCause() != null && e.getMostSpecificCause().getMessage() != null
+                ? e.getMostSpecificCause().getMessage()
+                : defaultMessage;
+        return switch (message) {
+            case String s when s.contains("título") -> "El título es requerido";
+            case String s when s.contains("año") -> "El año de publicación es requerido";
+            case String s when s.contains("autor no encontrado") -> "Autor no encontrado";
+            case String s when s.contains("El autor es requerido") -> "El autor es requerido";
+            case String s when s.contains("libro") -> "Libro no encontrado";
+            default -> message;
+        };
+    }
+
+    /**
+     * Executes a write procedure and maps the persisted book and its author from its OUT parameters.
+     *
+     * @param procedure           The CALL of uspLibroInsert or uspLibroUpdate, already bound.
+     * @param procedureName       The name of the procedure, for the logs.
+     * @param defaultErrorMessage Default error message to use if the procedure fails.
+     * @return The book after the operation.
+     */
+    private Mono<LibroResponse> executeStoredProcedure(DatabaseClient.GenericExecuteSpec procedure, String procedureName, String defaultErrorMessage) {
+        return procedure.map(PROCEDURE_ROW_MAPPER)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("No se recibió un ID generado desde %s".formatted(procedureName))))
+                .onErrorMap(DataAccessException.class, e -> {
+                    log.error("Error al ejecutar SP {}", procedureName, e);
+                    return toException(e, defaultErrorMessage);
+                });
+    }
+
+    @Override
+    public Flux<LibroResponse> readAll() {
+        return databaseClient.sql(READ_ALL_SQL)
+                // Rows are requested from PostgreSQL in chunks as the response is written, instead of all at once
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(LIBRO_ROW_MAPPER)
+                .all()
+                .onErrorMap(DataAccessException.class, e -> {
+                    log.error("Error al obtener libros", e);
+                    return new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+                });
+    }
+
+    @Override
+    public Mono<PageResponse<LibroResponse>> readPage(String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int afterId = Pagination.decodeCursor(cursor);
+            int pageSize = Pagination.resolveLimit(limit);
+            // Fetch one extra row to know whether there is a next page
+            return databaseClient.sql(READ_PAGE_SQL)
+                    .bind("afterId", afterId)
+                    .bind("limit", pageSize + 1)
+                    .map(LIBRO_ROW_MAPPER)
+                    .all()
+                    .collectList()
+                    .map(rows -> Pagination.toPage(rows, pageSize, LibroResponse::getId));
+        }).onErrorMap(DataAccessException.class, e -> {
+            log.error("Error al obtener página de libros", e);
+            return new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+        });
+    }
+
+    @Override
+    public Mono<LibroResponse> create(LibroRequest request) {
+        var procedure = databaseClient.sql(INSERT_SQL)
+                .bind("l_titulo", request.getTitulo())
+                .bind("l_anio_publicacion", request.getAnioPublicacion())
+                .bind("l_autor_id", request.getIdAutor());
+        return executeStoredProcedure(procedure, "uspLibroInsert", ERROR_CREATING_LIBRO_MESSAGE);
+    }
+
+    @Override
+    public Mono<LibroResponse> readById(Integer id) {
+        return databaseClient.sql(READ_BY_ID_SQL)
+                .bind("id", id)
+                .map(LIBRO_ROW_MAPPER)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new IdNotFoundException("Libro")))
+                .onErrorMap(DataAccessException.class, e -> {
+                    log.error("Error al obtener el libro {}", id, e);
+                    return new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+                });
+    }
+
+    @Override
+    public Mono<LibroResponse> update(LibroRequest request, Integer id) {
+        var procedure = databaseClient.sql(UPDATE_SQL)
+                .bind("l_libro_id", id)
+                .bind("l_titulo", request.getTitulo())
+                .bind("l_anio_publicacion", request.getAnioPublicacion())
+                .bind("l_autor_id", request.getIdAutor());
+        return executeStoredProcedure(procedure, "uspLibroUpdate", ERROR_UPDATING_LIBRO_MESSAGE);
+    }
+
+    @Override
+    public Mono<Void> delete(Integer id) {
+        return databaseClient.sql(DELETE_SQL)
+                .bind("l_libro_id", id)
+                .then()
+                .onErrorMap(DataAccessException.class, e -> {
+                    log.error("Error al ejecutar SP uspLibroDelete", e);
+                    return toException(e, ERROR_DELETING_LIBRO_MESSAGE);
+                });
+    }
+}
@@ -0,0 +1,8 @@
+package com.weiz.Biblioteca.infraestructure.services.imp;
+
+import com.weiz.Biblioteca.api.requests.AutorRequest;
+import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.infraestructure.abstractService.CrudService;
+
+public interface IAutorService extends CrudService<AutorRequest, AutorResponse, Integer> {
+}
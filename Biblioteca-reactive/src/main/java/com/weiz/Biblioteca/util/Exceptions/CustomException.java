@@ -0,0 +1,12 @@
+package com.weiz.Biblioteca.util.Exceptions;
+
+public class CustomException extends RuntimeException {
+
+    public CustomException(String message) {
+        super(message);
+    }
+
+    public CustomException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,135 @@
+package com.weiz.Biblioteca.util;
+
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import com.weiz.Biblioteca.util.Exceptions.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers for cursor based pagination.
+ * The cursor is an opaque token that wraps the last id returned in the previous page (keyset pagination), or the
+ * offset of the next page for results that are not ordered by id, such as search results ordered by rank.
+ */
+public final class Pagination {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String CURSOR_PREFIX = "id:";
+    private static final String OFFSET_CURSOR_PREFIX = "offset:";
+    private static final String ERROR_INVALID_CURSOR_MESSAGE = "Cursor inválido";
+    private static final String ERROR_INVALID_LIMIT_MESSAGE = "El límite debe ser mayor que 0";
+
+    private Pagination() {
+    }
+
+    /**
+     * Resolves the page size requested by the client, applying the default and the maximum allowed.
+     *
+     * @param limit The requested page size, may be null.
+     * @return A page size between 1 and {@link #MAX_LIMIT}.
+     * @throws CustomException If the requested page size is lower than 1.
+     */
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new CustomException(ERROR_INVALID_LIMIT_MESSAGE);
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public static String encodeCursor(int lastId) {
+        return encode(CURSOR_PREFIX, lastId);
+    }
+
+    public static String encodeOffsetCursor(int offset) {
+        return encode(OFFSET_CURSOR_PREFIX, offset);
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeCursor(int)}.
+     *
+     * @param cursor The opaque cursor, null or blank for the first page.
+     * @return The last id already returned, or 0 when starting from the beginning.
+     * @throws CustomException If the cursor is malformed.
+     */
+    public static int decodeCursor(String cursor) {
+        return decode(CURSOR_PREFIX, cursor);
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeOffsetCursor(int)}.
+     *
+     * @param cursor The opaque cursor, null or blank for the first page.
+     * @return The offset of the requested page, 0 for the first one.
+     * @throws CustomException If the cursor is malformed.
+     */
+    public static int decodeOffsetCursor(String cursor) {
+        return decode(OFFSET_CURSOR_PREFIX, cursor);
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}; the extra row only signals that a next page exists.
+     *
+     * @param rows  The fetched rows, ordered by id.
+     * @param limit The page size.
+     * @param idOf  Function that extracts the keyset id from a row.
+     * @return The page with the next cursor, or a null cursor when it is the last page.
+     */
+    public static <T> PageResponse<T> toPage(List<T> rows, int limit, Function<T, Integer> idOf) {
+        boolean hasNext = rows.size() > limit;
+        List<T> items = hasNext ? rows.subList(0, limit) : rows;
+        return PageResponse.<T>builder()
+                .items(items)
+                .limit(limit)
+                .nextCursor(hasNext ? encodeCursor(idOf.apply(items.get(items.size() - 1))) : null)
+                .build();
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1} starting at {@code offset}.
+     *
+     * @param rows   The fetched rows.
+     * @param limit  The page size.
+     * @param offset The offset of the current page.
+     * @return The page with the next cursor, or a null cursor when it is the last page.
+     */
+    public static <T> PageResponse<T> toOffsetPage(List<T> rows, int limit, int offset) {
+        boolean hasNext = rows.size() > limit;
+        return PageResponse.<T>builder()
+                .items(hasNext ? rows.subList(0, limit) : rows)
+                .limit(limit)
+                .nextCursor(hasNext ? encodeOffsetCursor(offset + limit) : null)
+                .build();
+    }
+
+    private static String encode(String prefix, int value) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((prefix + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decode(String prefix, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(prefix)) {
+                throw new CustomException(ERROR_INVALID_CURSOR_MESSAGE);
+            }
+            int value = Integer.parseInt(decoded.substring(prefix.length()));
+            if (value < 0) {
+                throw new CustomException(ERROR_INVALID_CURSOR_MESSAGE);
+            }
+            return value;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ERROR_INVALID_CURSOR_MESSAGE, e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.weiz.Biblioteca.util;
+
+import io.r2dbc.spi.R2dbcException;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * SQLSTATE codes raised by the write procedures, so errors are mapped by code instead of by the text of the message.
+ */
+public final class SqlStates {
+
+    // The row to update or delete does not exist
+    public static final String NO_DATA_FOUND = "P0002";
+    // The referenced author does not exist, or the author still has books
+    public static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    private SqlStates() {
+    }
+
+    public static boolean matches(DataAccessException e, String sqlState) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof R2dbcException r2dbcException && sqlState.equals(r2dbcException.getSqlState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,13 @@
+package com.weiz.Biblioteca;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class BibliotecaReactiveApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
\ No newline at end of file
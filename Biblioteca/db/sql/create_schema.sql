@@ -11,4 +11,186 @@ CREATE TABLE libros (
     anio_publicacion INT,
     autor_id INT,
     FOREIGN KEY (autor_id) REFERENCES autor(autor_id)
-);
\ No newline at end of file
+);
+
+-- Índice de la llave foránea: evita recorrer toda la tabla al validar la FK en uspAutorDelete
+CREATE INDEX idx_libros_autor_id ON libros (autor_id, libro_id);
+
+-- Búsqueda: texto completo sin acentos y coincidencia aproximada por trigramas
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- unaccent() no es IMMUTABLE, se envuelve para poder usarla en índices de expresión
+CREATE OR REPLACE FUNCTION f_unaccent(TEXT)
+RETURNS TEXT
+LANGUAGE sql
+IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$;
+
+-- Modelo de lectura: una fila por libro con los datos de su autor, mantenida por triggers en la misma transacción
+-- de cada escritura. Todas las lecturas de libros usan esta tabla en lugar del join entre libros y autor.
+CREATE TABLE libro_autor_read (
+    libro_id INT PRIMARY KEY,
+    titulo VARCHAR(255) NOT NULL,
+    anio_publicacion INT,
+    autor_id INT NOT NULL,
+    autor_nombre VARCHAR(255) NOT NULL,
+    autor_apellido VARCHAR(255) NOT NULL,
+    autor_nacionalidad VARCHAR(100)
+);
+
+-- Libros de un autor ordenados por libro_id
+CREATE INDEX idx_libro_autor_read_autor_id ON libro_autor_read (autor_id, libro_id);
+-- Búsqueda por título y por nombre del autor sobre una sola tabla
+CREATE INDEX idx_libro_autor_read_titulo_fts ON libro_autor_read USING GIN (to_tsvector('spanish', f_unaccent(titulo)));
+CREATE INDEX idx_libro_autor_read_titulo_trgm ON libro_autor_read USING GIN (f_unaccent(lower(titulo)) gin_trgm_ops);
+CREATE INDEX idx_libro_autor_read_autor_fts ON libro_autor_read USING GIN (to_tsvector('spanish', f_unaccent(autor_nombre || ' ' || autor_apellido)));
+CREATE INDEX idx_libro_autor_read_autor_trgm ON libro_autor_read USING GIN (f_unaccent(lower(autor_nombre || ' ' || autor_apellido)) gin_trgm_ops);
+-- Estadísticas: los conteos agrupados se resuelven con recorridos de solo índice, sin leer las filas completas
+CREATE INDEX idx_libro_autor_read_anio ON libro_autor_read (anio_publicacion);
+CREATE INDEX idx_libro_autor_read_nacionalidad ON libro_autor_read (autor_nacionalidad);
+
+-- Triggers por sentencia con tablas de transición: un INSERT ... SELECT o un UPDATE masivo actualiza el modelo
+-- de lectura con una sola sentencia. Los libros sin autor no aparecen, igual que en el join al que reemplaza.
+CREATE OR REPLACE FUNCTION fn_libro_autor_read_libros()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM libro_autor_read r
+        USING anteriores o
+        WHERE r.libro_id = o.libro_id;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        -- FOR SHARE: la FK solo toma FOR KEY SHARE sobre el autor, que no bloquea un UPDATE concurrente de su nombre
+        -- o nacionalidad. Sin este bloqueo, ese UPDATE no ve este libro aún sin confirmar y el modelo de lectura se
+        -- queda con los datos anteriores del autor. Con él, uno espera al otro: o se copian los datos ya confirmados
+        -- del autor, o fn_libro_autor_read_autor ve este libro al terminar la espera.
+        INSERT INTO libro_autor_read (libro_id, titulo, anio_publicacion, autor_id, autor_nombre, autor_apellido, autor_nacionalidad)
+        SELECT n.libro_id, n.titulo, n.anio_publicacion, a.autor_id, a.nombre, a.apellido, a.nacionalidad
+        FROM nuevos n
+        JOIN autor a ON a.autor_id = n.autor_id
+        FOR SHARE OF a;
+    END IF;
+
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_libros_read_insert
+    AFTER INSERT ON libros
+    REFERENCING NEW TABLE AS nuevos
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_libro_autor_read_libros();
+
+CREATE TRIGGER trg_libros_read_update
+    AFTER UPDATE ON libros
+    REFERENCING OLD TABLE AS anteriores NEW TABLE AS nuevos
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_libro_autor_read_libros();
+
+CREATE TRIGGER trg_libros_read_delete
+    AFTER DELETE ON libros
+    REFERENCING OLD TABLE AS anteriores
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_libro_autor_read_libros();
+
+-- Los autores con libros no se pueden borrar por la FK, solo sus cambios de datos llegan al modelo de lectura
+CREATE OR REPLACE FUNCTION fn_libro_autor_read_autor()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE libro_autor_read r
+    SET autor_nombre = n.nombre,
+        autor_apellido = n.apellido,
+        autor_nacionalidad = n.nacionalidad
+    FROM nuevos n
+    WHERE r.autor_id = n.autor_id;
+
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_autor_read_update
+    AFTER UPDATE ON autor
+    REFERENCING NEW TABLE AS nuevos
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_libro_autor_read_autor();
+
+-- Cambios del catálogo: cada sentencia que escribe en libros o autor (procedimientos, lotes e importaciones) publica
+-- un NOTIFY en el canal catalogo_cambios, que PostgreSQL entrega solo si la transacción se confirma.
+-- El mensaje lleva las filas cambiadas; en los cambios masivos "filas" es null y los clientes deben recargar.
+CREATE OR REPLACE FUNCTION fn_notify_catalogo()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    -- NOTIFY admite mensajes de hasta 8000 bytes
+    c_max_bytes CONSTANT INT := 7900;
+    c_max_filas CONSTANT INT := 50;
+    v_filas JSON;
+    v_total INT;
+    v_recurso TEXT := CASE TG_TABLE_NAME WHEN 'libros' THEN 'libro' ELSE 'autor' END;
+    v_payload TEXT;
+BEGIN
+    -- Se leen como máximo c_max_filas + 1 filas, para no serializar un cambio masivo completo
+    IF TG_TABLE_NAME = 'libros' AND TG_OP = 'DELETE' THEN
+        SELECT json_agg(f), COUNT(*) INTO v_filas, v_total
+        FROM (SELECT o.libro_id AS id FROM anteriores o LIMIT c_max_filas + 1) f;
+    ELSIF TG_TABLE_NAME = 'libros' THEN
+        SELECT json_agg(f), COUNT(*) INTO v_filas, v_total
+        FROM (SELECT n.libro_id AS id, n.titulo, n.anio_publicacion AS "anioPublicacion", n.autor_id AS "idAutor"
+              FROM nuevos n LIMIT c_max_filas + 1) f;
+    ELSIF TG_OP = 'DELETE' THEN
+        SELECT json_agg(f), COUNT(*) INTO v_filas, v_total
+        FROM (SELECT o.autor_id AS id FROM anteriores o LIMIT c_max_filas + 1) f;
+    ELSE
+        SELECT json_agg(f), COUNT(*) INTO v_filas, v_total
+        FROM (SELECT n.autor_id AS id, n.nombre, n.apellido, n.nacionalidad
+              FROM nuevos n LIMIT c_max_filas + 1) f;
+    END IF;
+
+    IF v_total = 0 THEN
+        RETURN NULL;
+    END IF;
+
+    v_payload := json_build_object('recurso', v_recurso, 'operacion', TG_OP, 'filas', v_filas)::TEXT;
+    IF v_total > c_max_filas OR octet_length(v_payload) > c_max_bytes THEN
+        v_payload := json_build_object('recurso', v_recurso, 'operacion', TG_OP, 'filas', NULL)::TEXT;
+    END IF;
+
+    PERFORM pg_notify('catalogo_cambios', v_payload);
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_libros_notify_insert
+    AFTER INSERT ON libros
+    REFERENCING NEW TABLE AS nuevos
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_notify_catalogo();
+
+CREATE TRIGGER trg_libros_notify_update
+    AFTER UPDATE ON libros
+    REFERENCING NEW TABLE AS nuevos
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_notify_catalogo();
+
+CREATE TRIGGER trg_libros_notify_delete
+    AFTER DELETE ON libros
+    REFERENCING OLD TABLE AS anteriores
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_notify_catalogo();
+
+CREATE TRIGGER trg_autor_notify_insert
+    AFTER INSERT ON autor
+    REFERENCING NEW TABLE AS nuevos
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_notify_catalogo();
+
+CREATE TRIGGER trg_autor_notify_update
+    AFTER UPDATE ON autor
+    REFERENCING NEW TABLE AS nuevos
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_notify_catalogo();
+
+CREATE TRIGGER trg_autor_notify_delete
+    AFTER DELETE ON autor
+    REFERENCING OLD TABLE AS anteriores
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_notify_catalogo();
\ No newline at end of file
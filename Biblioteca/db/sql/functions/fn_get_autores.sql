@@ -11,8 +11,5 @@ BEGIN
     RETURN QUERY
     SELECT a.autor_id, a.nombre, a.apellido, a.nacionalidad
     FROM autor a;
-EXCEPTION
-    WHEN OTHERS THEN
-        RAISE EXCEPTION 'Error al obtener autores: %', SQLERRM;
 END;
 $$;
\ No newline at end of file
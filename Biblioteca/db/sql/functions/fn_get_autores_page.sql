@@ -0,0 +1,22 @@
+DROP FUNCTION IF EXISTS fn_get_autores_page(INTEGER, INTEGER);
+
+CREATE OR REPLACE FUNCTION fn_get_autores_page(
+    p_after_id INTEGER,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    autor_id INTEGER,
+    nombre VARCHAR,
+    apellido VARCHAR,
+    nacionalidad VARCHAR
+)
+LANGUAGE sql
+STABLE
+AS $$
+    -- Paginación por keyset: se recorre el índice de la llave primaria a partir del último id entregado
+    SELECT a.autor_id, a.nombre, a.apellido, a.nacionalidad
+    FROM autor a
+    WHERE a.autor_id > COALESCE(p_after_id, 0)
+    ORDER BY a.autor_id
+    LIMIT p_limit;
+$$;
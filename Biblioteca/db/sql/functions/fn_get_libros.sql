@@ -1,18 +1,20 @@
+DROP FUNCTION IF EXISTS fn_get_libros();
+
+-- Función SQL de una sola consulta: el planificador la expande en la consulta que la llama,
+-- así los filtros, el ORDER BY y el LIMIT del llamador usan los índices del modelo de lectura
 CREATE OR REPLACE FUNCTION fn_get_libros()
 RETURNS TABLE (
     libro_id INTEGER,
     titulo VARCHAR,
     anio_publicacion INTEGER,
-    autor_id INTEGER
+    autor_id INTEGER,
+    autor_nombre VARCHAR,
+    autor_apellido VARCHAR,
+    autor_nacionalidad VARCHAR
 )
-LANGUAGE plpgsql
+LANGUAGE sql
+STABLE
 AS $$
-BEGIN
-    RETURN QUERY
-    SELECT l.libro_id, l.titulo, l.anio_publicacion, l.autor_id
-    FROM libros l;
-EXCEPTION
-    WHEN OTHERS THEN
-        RAISE EXCEPTION 'Error al obtener libros: %', SQLERRM;
-END;
+    SELECT r.libro_id, r.titulo, r.anio_publicacion, r.autor_id, r.autor_nombre, r.autor_apellido, r.autor_nacionalidad
+    FROM libro_autor_read r;
 $$;
\ No newline at end of file
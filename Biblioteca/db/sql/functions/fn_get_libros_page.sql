@@ -0,0 +1,25 @@
+DROP FUNCTION IF EXISTS fn_get_libros_page(INTEGER, INTEGER);
+
+CREATE OR REPLACE FUNCTION fn_get_libros_page(
+    p_after_id INTEGER,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    libro_id INTEGER,
+    titulo VARCHAR,
+    anio_publicacion INTEGER,
+    autor_id INTEGER,
+    autor_nombre VARCHAR,
+    autor_apellido VARCHAR,
+    autor_nacionalidad VARCHAR
+)
+LANGUAGE sql
+STABLE
+AS $$
+    -- Paginación por keyset sobre la llave primaria del modelo de lectura
+    SELECT r.libro_id, r.titulo, r.anio_publicacion, r.autor_id, r.autor_nombre, r.autor_apellido, r.autor_nacionalidad
+    FROM libro_autor_read r
+    WHERE r.libro_id > COALESCE(p_after_id, 0)
+    ORDER BY r.libro_id
+    LIMIT p_limit;
+$$;
\ No newline at end of file
@@ -0,0 +1,14 @@
+CREATE OR REPLACE FUNCTION fn_libros_por_decada()
+RETURNS TABLE (
+    decada INTEGER,
+    total_libros BIGINT
+)
+LANGUAGE sql
+STABLE
+AS $$
+    SELECT (r.anio_publicacion / 10) * 10 AS decada, COUNT(*) AS total_libros
+    FROM libro_autor_read r
+    WHERE r.anio_publicacion IS NOT NULL
+    GROUP BY 1
+    ORDER BY 1;
+$$;
\ No newline at end of file
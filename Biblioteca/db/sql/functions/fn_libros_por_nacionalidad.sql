@@ -0,0 +1,13 @@
+CREATE OR REPLACE FUNCTION fn_libros_por_nacionalidad()
+RETURNS TABLE (
+    nacionalidad VARCHAR,
+    total_libros BIGINT
+)
+LANGUAGE sql
+STABLE
+AS $$
+    SELECT r.autor_nacionalidad, COUNT(*) AS total_libros
+    FROM libro_autor_read r
+    GROUP BY r.autor_nacionalidad
+    ORDER BY total_libros DESC, r.autor_nacionalidad;
+$$;
\ No newline at end of file
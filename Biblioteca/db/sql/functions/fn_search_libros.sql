@@ -0,0 +1,42 @@
+DROP FUNCTION IF EXISTS fn_search_libros(TEXT, INTEGER, INTEGER);
+
+CREATE OR REPLACE FUNCTION fn_search_libros(
+    p_query TEXT,
+    p_limit INTEGER,
+    p_offset INTEGER
+)
+RETURNS TABLE (
+    libro_id INTEGER,
+    titulo VARCHAR,
+    anio_publicacion INTEGER,
+    autor_id INTEGER,
+    autor_nombre VARCHAR,
+    autor_apellido VARCHAR,
+    autor_nacionalidad VARCHAR,
+    rank REAL
+)
+LANGUAGE sql
+STABLE
+AS $$
+    -- Título y autor están en la misma fila del modelo de lectura: un solo recorrido combina los cuatro índices GIN;
+    -- las expresiones deben coincidir exactamente con las de los índices en create_schema.sql
+    WITH q AS (
+        SELECT websearch_to_tsquery('spanish', f_unaccent(p_query)) AS tsq,
+               f_unaccent(lower(p_query)) AS txt
+    )
+    SELECT r.libro_id, r.titulo, r.anio_publicacion, r.autor_id, r.autor_nombre, r.autor_apellido, r.autor_nacionalidad,
+           GREATEST(
+               ts_rank(to_tsvector('spanish', f_unaccent(r.titulo)), q.tsq),
+               ts_rank(to_tsvector('spanish', f_unaccent(r.autor_nombre || ' ' || r.autor_apellido)), q.tsq),
+               word_similarity(q.txt, f_unaccent(lower(r.titulo))),
+               word_similarity(q.txt, f_unaccent(lower(r.autor_nombre || ' ' || r.autor_apellido)))
+           )::REAL AS rank
+    FROM libro_autor_read r, q
+    WHERE to_tsvector('spanish', f_unaccent(r.titulo)) @@ q.tsq
+       OR q.txt <% f_unaccent(lower(r.titulo))
+       OR to_tsvector('spanish', f_unaccent(r.autor_nombre || ' ' || r.autor_apellido)) @@ q.tsq
+       OR q.txt <% f_unaccent(lower(r.autor_nombre || ' ' || r.autor_apellido))
+    ORDER BY 8 DESC, r.libro_id
+    LIMIT p_limit
+    OFFSET p_offset;
+$$;
\ No newline at end of file
@@ -0,0 +1,25 @@
+CREATE OR REPLACE FUNCTION fn_top_autores(
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    autor_id INTEGER,
+    nombre VARCHAR,
+    apellido VARCHAR,
+    nacionalidad VARCHAR,
+    total_libros BIGINT
+)
+LANGUAGE sql
+STABLE
+AS $$
+    -- Se cuenta sobre el índice (autor_id, libro_id) y solo se une con autor para los primeros p_limit
+    SELECT a.autor_id, a.nombre, a.apellido, a.nacionalidad, t.total_libros
+    FROM (
+        SELECT r.autor_id, COUNT(*) AS total_libros
+        FROM libro_autor_read r
+        GROUP BY r.autor_id
+        ORDER BY total_libros DESC, r.autor_id
+        LIMIT p_limit
+    ) t
+    JOIN autor a ON a.autor_id = t.autor_id
+    ORDER BY t.total_libros DESC, a.autor_id;
+$$;
\ No newline at end of file
@@ -0,0 +1,127 @@
+-- Migración para bases de datos creadas antes del modelo de lectura (las nuevas lo reciben de create_schema.sql).
+-- Se puede ejecutar más de una vez: crea lo que falte y completa libro_autor_read con los libros existentes, que los
+-- triggers solo mantienen a partir de las escrituras nuevas. Requiere PostgreSQL 14 o superior (CREATE OR REPLACE TRIGGER).
+--   psql -v ON_ERROR_STOP=1 -f db/sql/migrations/018_libro_autor_read.sql
+-- Después se aplican de nuevo las funciones de db/sql/functions, que ahora leen de libro_autor_read.
+
+BEGIN;
+
+-- Las escrituras esperan a que termine la migración, así ningún cambio queda entre los triggers y la carga inicial
+LOCK TABLE libros, autor IN SHARE MODE;
+
+-- Búsqueda: texto completo sin acentos y coincidencia aproximada por trigramas
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- unaccent() no es IMMUTABLE, se envuelve para poder usarla en índices de expresión
+CREATE OR REPLACE FUNCTION f_unaccent(TEXT)
+RETURNS TEXT
+LANGUAGE sql
+IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$;
+
+-- Modelo de lectura: una fila por libro con los datos de su autor, mantenida por triggers en la misma transacción
+-- de cada escritura. Todas las lecturas de libros usan esta tabla en lugar del join entre libros y autor.
+CREATE TABLE IF NOT EXISTS libro_autor_read (
+    libro_id INT PRIMARY KEY,
+    titulo VARCHAR(255) NOT NULL,
+    anio_publicacion INT,
+    autor_id INT NOT NULL,
+    autor_nombre VARCHAR(255) NOT NULL,
+    autor_apellido VARCHAR(255) NOT NULL,
+    autor_nacionalidad VARCHAR(100)
+);
+
+-- Libros de un autor ordenados por libro_id
+CREATE INDEX IF NOT EXISTS idx_libro_autor_read_autor_id ON libro_autor_read (autor_id, libro_id);
+-- Búsqueda por título y por nombre del autor sobre una sola tabla
+CREATE INDEX IF NOT EXISTS idx_libro_autor_read_titulo_fts ON libro_autor_read USING GIN (to_tsvector('spanish', f_unaccent(titulo)));
+CREATE INDEX IF NOT EXISTS idx_libro_autor_read_titulo_trgm ON libro_autor_read USING GIN (f_unaccent(lower(titulo)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_libro_autor_read_autor_fts ON libro_autor_read USING GIN (to_tsvector('spanish', f_unaccent(autor_nombre || ' ' || autor_apellido)));
+CREATE INDEX IF NOT EXISTS idx_libro_autor_read_autor_trgm ON libro_autor_read USING GIN (f_unaccent(lower(autor_nombre || ' ' || autor_apellido)) gin_trgm_ops);
+-- Estadísticas: los conteos agrupados se resuelven con recorridos de solo índice, sin leer las filas completas
+CREATE INDEX IF NOT EXISTS idx_libro_autor_read_anio ON libro_autor_read (anio_publicacion);
+CREATE INDEX IF NOT EXISTS idx_libro_autor_read_nacionalidad ON libro_autor_read (autor_nacionalidad);
+
+-- Triggers por sentencia con tablas de transición: un INSERT ... SELECT o un UPDATE masivo actualiza el modelo
+-- de lectura con una sola sentencia. Los libros sin autor no aparecen, igual que en el join al que reemplaza.
+CREATE OR REPLACE FUNCTION fn_libro_autor_read_libros()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM libro_autor_read r
+        USING anteriores o
+        WHERE r.libro_id = o.libro_id;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        -- FOR SHARE: la FK solo toma FOR KEY SHARE sobre el autor, que no bloquea un UPDATE concurrente de su nombre
+        -- o nacionalidad. Sin este bloqueo, ese UPDATE no ve este libro aún sin confirmar y el modelo de lectura se
+        -- queda con los datos anteriores del autor. Con él, uno espera al otro: o se copian los datos ya confirmados
+        -- del autor, o fn_libro_autor_read_autor ve este libro al terminar la espera.
+        INSERT INTO libro_autor_read (libro_id, titulo, anio_publicacion, autor_id, autor_nombre, autor_apellido, autor_nacionalidad)
+        SELECT n.libro_id, n.titulo, n.anio_publicacion, a.autor_id, a.nombre, a.apellido, a.nacionalidad
+        FROM nuevos n
+        JOIN autor a ON a.autor_id = n.autor_id
+        FOR SHARE OF a;
+    END IF;
+
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE TRIGGER trg_libros_read_insert
+    AFTER INSERT ON libros
+    REFERENCING NEW TABLE AS nuevos
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_libro_autor_read_libros();
+
+CREATE OR REPLACE TRIGGER trg_libros_read_update
+    AFTER UPDATE ON libros
+    REFERENCING OLD TABLE AS anteriores NEW TABLE AS nuevos
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_libro_autor_read_libros();
+
+CREATE OR REPLACE TRIGGER trg_libros_read_delete
+    AFTER DELETE ON libros
+    REFERENCING OLD TABLE AS anteriores
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_libro_autor_read_libros();
+
+-- Los autores con libros no se pueden borrar por la FK, solo sus cambios de datos llegan al modelo de lectura
+CREATE OR REPLACE FUNCTION fn_libro_autor_read_autor()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE libro_autor_read r
+    SET autor_nombre = n.nombre,
+        autor_apellido = n.apellido,
+        autor_nacionalidad = n.nacionalidad
+    FROM nuevos n
+    WHERE r.autor_id = n.autor_id;
+
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE TRIGGER trg_autor_read_update
+    AFTER UPDATE ON autor
+    REFERENCING NEW TABLE AS nuevos
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_libro_autor_read_autor();
+
+-- Carga inicial de los libros existentes
+INSERT INTO libro_autor_read (libro_id, titulo, anio_publicacion, autor_id, autor_nombre, autor_apellido, autor_nacionalidad)
+SELECT l.libro_id, l.titulo, l.anio_publicacion, a.autor_id, a.nombre, a.apellido, a.nacionalidad
+FROM libros l
+JOIN autor a ON a.autor_id = l.autor_id
+ON CONFLICT (libro_id) DO UPDATE SET
+    titulo = EXCLUDED.titulo,
+    anio_publicacion = EXCLUDED.anio_publicacion,
+    autor_id = EXCLUDED.autor_id,
+    autor_nombre = EXCLUDED.autor_nombre,
+    autor_apellido = EXCLUDED.autor_apellido,
+    autor_nacionalidad = EXCLUDED.autor_nacionalidad;
+
+COMMIT;
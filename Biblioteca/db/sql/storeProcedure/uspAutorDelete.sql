@@ -5,16 +5,12 @@ CREATE OR REPLACE PROCEDURE uspAutorDelete(
 LANGUAGE plpgsql
 AS $$
 BEGIN
-  --Validamos si existe el id
-  IF NOT EXISTS (SELECT 1 FROM autor WHERE autor_id = p_autor_id) THEN
-    RAISE EXCEPTION 'El autor con id % no existe', p_autor_id;
-  END IF;
-
-    -- eliminamos el registro
+    -- eliminamos el registro; sin fila eliminada el autor no existe.
+    -- Si tiene libros la FK lo impide con su propio SQLSTATE (foreign_key_violation)
     DELETE FROM autor WHERE autor_id = p_autor_id;
 
-EXCEPTION
-  WHEN OTHERS THEN
-    RAISE EXCEPTION '%', SQLERRM;
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'El autor con id % no existe', p_autor_id USING ERRCODE = 'no_data_found';
+    END IF;
 END;
 $$;
\ No newline at end of file
@@ -1,9 +1,14 @@
 
+DROP PROCEDURE IF EXISTS uspAutorInsert;
+
 CREATE OR REPLACE PROCEDURE uspAutorInsert(
   IN p_nombre VARCHAR(255),
   IN p_apellido VARCHAR(255),
   IN p_nacionalidad VARCHAR(100),
-  OUT new_id INTEGER
+  OUT o_autor_id INTEGER,
+  OUT o_nombre VARCHAR,
+  OUT o_apellido VARCHAR,
+  OUT o_nacionalidad VARCHAR
 )
 LANGUAGE plpgsql
 AS $$
@@ -17,13 +22,10 @@ BEGIN
     RAISE EXCEPTION 'El apellido es requerido';
   END IF;
 
-  -- Insertamos el registro
+  -- Insertamos el registro y devolvemos la fila completa en los parámetros OUT
   INSERT INTO autor (nombre, apellido, nacionalidad)
   VALUES (p_nombre, p_apellido, p_nacionalidad)
-  RETURNING autor_id INTO new_id;
-
-EXCEPTION
-  WHEN OTHERS THEN
-    RAISE EXCEPTION '%', SQLERRM;
+  RETURNING autor_id, nombre, apellido, nacionalidad
+  INTO o_autor_id, o_nombre, o_apellido, o_nacionalidad;
 END;
 $$;
\ No newline at end of file
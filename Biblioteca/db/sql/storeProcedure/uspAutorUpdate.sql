@@ -1,17 +1,18 @@
+DROP PROCEDURE IF EXISTS uspAutorUpdate;
+
 CREATE OR REPLACE PROCEDURE uspAutorUpdate(
     IN p_autor_id INT,
     IN p_nombre VARCHAR(255),
     IN p_apellido VARCHAR(255),
-    IN p_nacionalidad VARCHAR(100) DEFAULT NULL
+    IN p_nacionalidad VARCHAR(100) DEFAULT NULL,
+    OUT o_autor_id INTEGER,
+    OUT o_nombre VARCHAR,
+    OUT o_apellido VARCHAR,
+    OUT o_nacionalidad VARCHAR
 )
 LANGUAGE plpgsql
 AS $$
 BEGIN
-  --Validamos si existe el id
-  IF NOT EXISTS (SELECT 1 FROM autor WHERE autor_id = p_autor_id) THEN
-    RAISE EXCEPTION 'Autor no encontrado';
-  END IF;
-
   -- Validamos parámetros obligatorios
     IF p_nombre IS NULL OR TRIM(p_nombre) = '' THEN
       RAISE EXCEPTION 'El nombre es requerido';
@@ -21,7 +22,7 @@ BEGIN
       RAISE EXCEPTION 'El apellido es requerido';
     END IF;
 
-  -- Actualizamos el registro
+  -- Actualizamos el registro y devolvemos la fila completa en los parámetros OUT
   UPDATE autor SET
     nombre = p_nombre,
     apellido = p_apellido,
@@ -30,10 +31,13 @@ BEGIN
                     THEN p_nacionalidad
                     ELSE nacionalidad
                   END
-  WHERE autor_id = p_autor_id;
+  WHERE autor_id = p_autor_id
+  RETURNING autor_id, nombre, apellido, nacionalidad
+  INTO o_autor_id, o_nombre, o_apellido, o_nacionalidad;
 
-EXCEPTION
-  WHEN OTHERS THEN
-    RAISE EXCEPTION '%', SQLERRM;
+  -- Sin fila actualizada el autor no existe: se detecta con el mismo UPDATE, sin consultarlo antes
+  IF NOT FOUND THEN
+    RAISE EXCEPTION 'Autor no encontrado' USING ERRCODE = 'no_data_found';
+  END IF;
 END;
 $$;
\ No newline at end of file
@@ -5,16 +5,11 @@ CREATE OR REPLACE PROCEDURE uspLibroDelete(
 LANGUAGE plpgsql
 AS $$
 BEGIN
-  --Validamos si existe el id
-    IF NOT EXISTS (SELECT 1 FROM libros WHERE libro_id = l_libro_id) THEN
-         RAISE EXCEPTION 'El libro no existe';
-    END IF;
-
-    -- eliminamos el registro
+    -- eliminamos el registro; sin fila eliminada el libro no existe
     DELETE FROM libros WHERE libro_id = l_libro_id;
 
-EXCEPTION
-  WHEN OTHERS THEN
-    RAISE EXCEPTION '%', SQLERRM;
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'El libro no existe' USING ERRCODE = 'no_data_found';
+    END IF;
 END;
 $$;
\ No newline at end of file
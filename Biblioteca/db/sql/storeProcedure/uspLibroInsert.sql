@@ -1,35 +1,45 @@
+DROP PROCEDURE IF EXISTS uspLibroInsert;
+
 CREATE OR REPLACE PROCEDURE uspLibroInsert(
     IN l_titulo VARCHAR(255),
     IN l_anio_publicacion INTEGER,
     IN l_autor_id INTEGER,
-    OUT new_id INTEGER
+    OUT o_libro_id INTEGER,
+    OUT o_titulo VARCHAR,
+    OUT o_anio_publicacion INTEGER,
+    OUT o_autor_id INTEGER,
+    OUT o_autor_nombre VARCHAR,
+    OUT o_autor_apellido VARCHAR,
+    OUT o_autor_nacionalidad VARCHAR
 )
 LANGUAGE plpgsql
 AS $$
 BEGIN
     IF l_titulo IS NULL OR TRIM(l_titulo) = '' THEN
-        RAISE EXCEPTION 'El título es requerido';
+        RAISE EXCEPTION 'El título es requerido';
     END IF;
 
     IF l_anio_publicacion IS NULL THEN
-        RAISE EXCEPTION 'El año de publicación es requerido';
+        RAISE EXCEPTION 'El año de publicación es requerido';
     END IF;
 
     IF l_autor_id IS NULL OR l_autor_id = 0 THEN
         RAISE EXCEPTION 'El autor es requerido';
     END IF;
 
-    -- Verificar si el autor existe
-    IF NOT EXISTS (SELECT 1 FROM autor WHERE autor_id = l_autor_id) THEN
-        RAISE EXCEPTION 'Autor no encontrado';
+    -- Verificar si el autor existe y obtener sus datos para la respuesta
+    SELECT a.nombre, a.apellido, a.nacionalidad
+    INTO o_autor_nombre, o_autor_apellido, o_autor_nacionalidad
+    FROM autor a
+    WHERE a.autor_id = l_autor_id;
+
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'Autor no encontrado' USING ERRCODE = 'foreign_key_violation';
     END IF;
 
     INSERT INTO libros (titulo, anio_publicacion, autor_id)
     VALUES (l_titulo, l_anio_publicacion, l_autor_id)
-    RETURNING libro_id INTO new_id;
-
-EXCEPTION
-    WHEN OTHERS THEN
-        RAISE EXCEPTION '%', SQLERRM;
+    RETURNING libro_id, titulo, anio_publicacion, autor_id
+    INTO o_libro_id, o_titulo, o_anio_publicacion, o_autor_id;
 END;
 $$;
\ No newline at end of file
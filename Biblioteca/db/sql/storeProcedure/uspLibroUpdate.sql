@@ -1,30 +1,40 @@
 
+DROP PROCEDURE IF EXISTS uspLibroUpdate;
+
 CREATE OR REPLACE PROCEDURE uspLibroUpdate(
     IN l_libro_id INT,
     IN l_titulo VARCHAR(255),
     IN l_anio_publicacion INTEGER,
-    IN l_autor_id INTEGER
+    IN l_autor_id INTEGER,
+    OUT o_libro_id INTEGER,
+    OUT o_titulo VARCHAR,
+    OUT o_anio_publicacion INTEGER,
+    OUT o_autor_id INTEGER,
+    OUT o_autor_nombre VARCHAR,
+    OUT o_autor_apellido VARCHAR,
+    OUT o_autor_nacionalidad VARCHAR
 )
 LANGUAGE plpgsql
 AS $$
 BEGIN
-
-    -- Validamos si existe el libro
-    IF NOT EXISTS (SELECT 1 FROM libros WHERE libro_id = l_libro_id) THEN
-        RAISE EXCEPTION 'Libro no encontrado.';
+    -- Validamos parámetros obligatorios
+    IF l_titulo IS NULL OR TRIM(l_titulo) = '' THEN
+        RAISE EXCEPTION 'El título es requerido';
     END IF;
 
-    -- Validamos si el autor existe
-    IF l_autor_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM autor WHERE autor_id = l_autor_id) THEN
-        RAISE EXCEPTION 'Autor no encontrado.';
-    END IF;
+    -- Validamos si el autor existe y obtenemos sus datos para la respuesta
+    IF l_autor_id IS NOT NULL THEN
+        SELECT a.nombre, a.apellido, a.nacionalidad
+        INTO o_autor_nombre, o_autor_apellido, o_autor_nacionalidad
+        FROM autor a
+        WHERE a.autor_id = l_autor_id;
 
-    -- Validamos parámetros obligatorios
-    IF l_titulo IS NULL OR TRIM(l_titulo) = '' THEN
-        RAISE EXCEPTION 'El título es requerido';
+        IF NOT FOUND THEN
+            RAISE EXCEPTION 'Autor no encontrado.' USING ERRCODE = 'foreign_key_violation';
+        END IF;
     END IF;
 
-    -- Actualizamos el libro
+    -- Actualizamos el libro y devolvemos la fila completa en los parámetros OUT
     UPDATE libros SET
         titulo = l_titulo,
 		autor_id = l_autor_id,
@@ -34,10 +44,13 @@ BEGIN
             					ELSE anio_publicacion
 
         END
-    WHERE libro_id = l_libro_id;
+    WHERE libro_id = l_libro_id
+    RETURNING libro_id, titulo, anio_publicacion, autor_id
+    INTO o_libro_id, o_titulo, o_anio_publicacion, o_autor_id;
 
-EXCEPTION
-    WHEN OTHERS THEN
-        RAISE EXCEPTION '%', SQLERRM;
+    -- Sin fila actualizada el libro no existe: se detecta con el mismo UPDATE, sin consultarlo antes
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'Libro no encontrado.' USING ERRCODE = 'no_data_found';
+    END IF;
 END;
 $$;
\ No newline at end of file
@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+# Compares the startup time and memory of the Biblioteca builds on Linux:
+#   jar     target/Biblioteca-0.0.1-SNAPSHOT.jar                          (mvn package)
+#   cds     target/cds/Biblioteca-0.0.1-SNAPSHOT.jar + application.jsa    (mvn -Pcds package)
+#   native  target/biblioteca                                             (mvn -Pnative package)
+# Every build found is started RUNS times. "listo" is the time from the launch until GET <context>/test answers,
+# "RSS" is the resident memory (VmRSS) read from /proc at that moment and "pico" the peak (VmHWM).
+#
+# Uso (desde Biblioteca/, con la base de datos levantada: docker-compose up -d db):
+#   scripts/startup-comparison.sh [RUNS]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${STARTUP_PORT:-18080}
+TIMEOUT_SECONDS=${STARTUP_TIMEOUT:-60}
+TARGET=$(pwd)/target
+JAR_NAME=Biblioteca-0.0.1-SNAPSHOT.jar
+
+# Same variables as the application, then the port of the measurement and the database published by docker-compose
+set -a
+[ -f .env ] && . ./.env
+set +a
+export APP_PORT_IN=$PORT
+export DB_PORT_IN=${DB_PORT_OUT:-${DB_PORT_IN:-5432}}
+URL="http://localhost:${PORT}${APP_CONTEXT_PATH:-}/test"
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+# Starts the command, waits until it answers and prints "<ms> <rss kB> <peak kB>"
+measure() {
+  local start pid elapsed rss peak
+  start=$(now_ms)
+  # Started from target/ so BibliotecaApplication does not load .env, whose values would override the ones above
+  (cd "$TARGET" && exec "$@") > "$TARGET/startup-comparison.log" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2> /dev/null || (( $(now_ms) - start > TIMEOUT_SECONDS * 1000 )); then
+      kill "$pid" 2> /dev/null || true
+      echo "La aplicación no respondió, ver $TARGET/startup-comparison.log" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  elapsed=$(( $(now_ms) - start ))
+  rss=$(awk '/^VmRSS/ { print $2 }' "/proc/$pid/status")
+  peak=$(awk '/^VmHWM/ { print $2 }' "/proc/$pid/status")
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  echo "$elapsed $rss $peak"
+}
+
+run() {
+  local name=$1
+  shift
+  local results=()
+  for ((i = 1; i <= RUNS; i++)); do
+    results+=("$(measure "$@")")
+  done
+  printf '%-8s %10s %10s %10s %10s\n' "$name" \
+    "$(printf '%s\n' "${results[@]}" | awk '{ print $1 }' | median)" \
+    "$(printf '%s\n' "${results[@]}" | awk '{ print $1 }' | sort -n | head -1)" \
+    "$(printf '%s\n' "${results[@]}" | awk '{ print int($2 / 1024) }' | median)" \
+    "$(printf '%s\n' "${results[@]}" | awk '{ print int($3 / 1024) }' | median)"
+}
+
+printf '%-8s %10s %10s %10s %10s\n' "build" "listo ms" "mín ms" "RSS MB" "pico MB"
+if [ -f "$TARGET/$JAR_NAME" ]; then
+  run jar java ${JAVA_OPTS:-} -jar "$TARGET/$JAR_NAME"
+fi
+if [ -f "$TARGET/cds/application.jsa" ]; then
+  run cds java ${JAVA_OPTS:-} -XX:SharedArchiveFile="$TARGET/cds/application.jsa" -Dspring.aot.enabled=true -jar "$TARGET/cds/$JAR_NAME"
+fi
+if [ -x "$TARGET/biblioteca" ]; then
+  run native "$TARGET/biblioteca"
+fi
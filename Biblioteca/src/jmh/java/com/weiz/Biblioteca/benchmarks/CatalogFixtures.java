@@ -0,0 +1,151 @@
+package com.weiz.Biblioteca.benchmarks;
+
+import com.weiz.Biblioteca.api.responses.LibroResponse;
+import com.weiz.Biblioteca.domain.entities.AutorEntity;
+import com.weiz.Biblioteca.domain.entities.LibroEntity;
+import com.weiz.Biblioteca.infraestructure.services.LibroService;
+
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic catalog data shared by the benchmarks, so that results of different commits are measured on the same rows.
+ */
+final class CatalogFixtures {
+
+    // Same ratio of books per author for every size
+    private static final int LIBROS_PER_AUTOR = 10;
+    private static final String[] NACIONALIDADES = {"Colombiana", "Argentina", "Mexicana", "Española", "Chilena"};
+
+    static final String[] LIBRO_COLUMNS = {"libro_id", "titulo", "anio_publicacion", "autor_id", "autor_nombre", "autor_apellido", "autor_nacionalidad"};
+    static final String[] AUTOR_COLUMNS = {"autor_id", "nombre", "apellido", "nacionalidad"};
+
+    private CatalogFixtures() {
+    }
+
+    static int autorCount(int libros) {
+        return Math.max(1, libros / LIBROS_PER_AUTOR);
+    }
+
+    static List<AutorEntity> autores(int count) {
+        List<AutorEntity> autores = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            autores.add(new AutorEntity(i, "Nombre " + i, "Apellido " + i, NACIONALIDADES[i % NACIONALIDADES.length]));
+        }
+        return autores;
+    }
+
+    static List<LibroEntity> libros(int count) {
+        List<AutorEntity> autores = autores(autorCount(count));
+        List<LibroEntity> libros = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            libros.add(new LibroEntity(i, "Libro número " + i, 1900 + i % 125, autores.get(i % autores.size())));
+        }
+        return libros;
+    }
+
+    static List<LibroResponse> libroResponses(int count) {
+        List<LibroResponse> responses = new ArrayList<>(count);
+        for (LibroEntity libro : libros(count)) {
+            responses.add(LibroService.entityToResponse(libro));
+        }
+        return responses;
+    }
+
+    /**
+     * The rows returned by the {@code readAll} query of {@link LibroService}.
+     */
+    static ArrayResultSet libroRows(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (LibroEntity libro : libros(count)) {
+            AutorEntity autor = libro.getAutorEntity();
+            rows.add(new Object[]{libro.getId(), libro.getTitulo(), libro.getAnioPublicacion(),
+                    autor.getId(), autor.getNombre(), autor.getApellido(), autor.getNacionalidad()});
+        }
+        return new ArrayResultSet(LIBRO_COLUMNS, rows);
+    }
+
+    /**
+     * The rows returned by {@code fn_get_autores()}.
+     */
+    static ArrayResultSet autorRows(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (AutorEntity autor : autores(count)) {
+            rows.add(new Object[]{autor.getId(), autor.getNombre(), autor.getApellido(), autor.getNacionalidad()});
+        }
+        return new ArrayResultSet(AUTOR_COLUMNS, rows);
+    }
+
+    /**
+     * In-memory rows exposed through a forward-only {@link ResultSet} that only implements the accessors used by the
+     * row mappers. Its own cost is the same on every commit, so the differences come from the mappers.
+     */
+    static final class ArrayResultSet {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final List<Object[]> rows;
+
+        ArrayResultSet(String[] columnLabels, List<Object[]> rows) {
+            for (int i = 0; i < columnLabels.length; i++) {
+                columns.put(columnLabels[i], i);
+            }
+            this.rows = rows;
+        }
+
+        ResultSet open() {
+            int[] cursor = {-1};
+            boolean[] wasNull = {false};
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "next" -> ++cursor[0] < rows.size();
+                        case "getObject", "getString", "getInt" -> {
+                            Object value = rows.get(cursor[0])[column(args[0])];
+                            wasNull[0] = value == null;
+                            yield method.getName().equals("getInt") && value == null ? 0 : value;
+                        }
+                        case "wasNull" -> wasNull[0];
+                        case "close" -> null;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private int column(Object labelOrIndex) throws SQLException {
+            if (labelOrIndex instanceof Integer index) {
+                return index - 1;
+            }
+            Integer index = columns.get((String) labelOrIndex);
+            if (index == null) {
+                throw new SQLException("Columna no encontrada: " + labelOrIndex);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Discards the bytes but keeps their count, so the serialization cannot be optimized away.
+     */
+    static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.weiz.Biblioteca.benchmarks;
+
+import com.weiz.Biblioteca.api.responses.LibroResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collection of the mapped rows into the {@code Set} returned by {@code readAll}. Every insert hashes the
+ * {@code LibroResponse} with the Lombok generated {@code hashCode}, which includes the nested {@code AutorResponse}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CollectionBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private List<LibroResponse> libros;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        libros = CatalogFixtures.libroResponses(rows);
+    }
+
+    @Benchmark
+    public Set<LibroResponse> hashSet() {
+        return new HashSet<>(libros);
+    }
+
+    @Benchmark
+    public Set<LibroResponse> linkedHashSet() {
+        return new LinkedHashSet<>(libros);
+    }
+
+    @Benchmark
+    public int hashCodes() {
+        int hash = 0;
+        for (LibroResponse libro : libros) {
+            hash += libro.hashCode();
+        }
+        return hash;
+    }
+}
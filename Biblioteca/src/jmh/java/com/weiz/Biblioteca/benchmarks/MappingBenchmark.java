@@ -0,0 +1,72 @@
+package com.weiz.Biblioteca.benchmarks;
+
+import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.LibroResponse;
+import com.weiz.Biblioteca.domain.entities.AutorEntity;
+import com.weiz.Biblioteca.domain.entities.LibroEntity;
+import com.weiz.Biblioteca.infraestructure.services.AutorService;
+import com.weiz.Biblioteca.infraestructure.services.LibroService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row mappers used by {@code readAll} and the {@code entityToResponse} conversions used by the JPA reads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private CatalogFixtures.ArrayResultSet libroRows;
+    private CatalogFixtures.ArrayResultSet autorRows;
+    private List<LibroEntity> libros;
+    private List<AutorEntity> autores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        libroRows = CatalogFixtures.libroRows(rows);
+        autorRows = CatalogFixtures.autorRows(rows);
+        libros = CatalogFixtures.libros(rows);
+        autores = CatalogFixtures.autores(rows);
+    }
+
+    @Benchmark
+    public List<LibroResponse> libroRowMapper() throws SQLException {
+        // Same extractor JdbcTemplate.query uses for a RowMapper
+        return new RowMapperResultSetExtractor<>(LibroService.LIBRO_ROW_MAPPER).extractData(libroRows.open());
+    }
+
+    @Benchmark
+    public List<AutorResponse> autorRowMapper() throws SQLException {
+        return new RowMapperResultSetExtractor<>(AutorService.AUTOR_ROW_MAPPER).extractData(autorRows.open());
+    }
+
+    @Benchmark
+    public List<LibroResponse> libroEntityToResponse() {
+        List<LibroResponse> responses = new ArrayList<>(libros.size());
+        for (LibroEntity libro : libros) {
+            responses.add(LibroService.entityToResponse(libro));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<AutorResponse> autorEntityToResponse() {
+        List<AutorResponse> responses = new ArrayList<>(autores.size());
+        for (AutorEntity autor : autores) {
+            responses.add(AutorService.entityToResponse(autor));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,42 @@
+package com.weiz.Biblioteca.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weiz.Biblioteca.api.responses.LibroResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the {@code Set<LibroResponse>} returned by {@code GET /libros}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private Set<LibroResponse> libros;
+    // Same defaults Spring Boot applies to the ObjectMapper of the HTTP message converters
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        libros = new LinkedHashSet<>(CatalogFixtures.libroResponses(rows));
+    }
+
+    @Benchmark
+    public long writeLibros() throws IOException {
+        CatalogFixtures.CountingOutputStream out = new CatalogFixtures.CountingOutputStream();
+        objectMapper.writeValue(out, libros);
+        return out.count();
+    }
+}
@@ -0,0 +1,99 @@
+package com.weiz.Biblioteca.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms (microseconds) of each operation and of the whole run, plus the count of failed requests.
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Histogram total = newHistogram();
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, newHistogram());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * @param latencyMicros Measured from the planned send time when the run has a target rate, so the wait of the
+     *                      requests a slow response delayed is already included (coordinated omission); no samples
+     *                      are added on top of the real ones.
+     */
+    void recordSuccess(Operation operation, long latencyMicros) {
+        long value = Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(value);
+        total.recordValue(value);
+    }
+
+    // Includes the answers with HTTP 200 and an error body (CustomException, IdNotFoundException)
+    void recordError(Operation operation) {
+        errors.get(operation).increment();
+    }
+
+    /**
+     * Writes report.txt with a summary line per operation and one .hgrm percentile distribution per histogram.
+     */
+    void write(Path reportDir, Duration elapsed, List<String> header) throws IOException {
+        Files.createDirectories(reportDir);
+        try (PrintStream report = new PrintStream(Files.newOutputStream(reportDir.resolve("report.txt")), true, "UTF-8")) {
+            header.forEach(report::println);
+            report.println();
+            report.printf("%-28s %10s %8s %10s %9s %9s %9s %9s %9s%n", "operación", "peticiones", "errores", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (Operation operation : Operation.values()) {
+                Histogram histogram = histograms.get(operation);
+                long failed = errors.get(operation).sum();
+                if (histogram.getTotalCount() > 0 || failed > 0) {
+                    printLine(report, operation.getLabel(), histogram, failed, elapsed);
+                    writeDistribution(reportDir.resolve(operation.name() + ".hgrm"), histogram);
+                }
+            }
+            long failed = errors.values().stream().mapToLong(LongAdder::sum).sum();
+            printLine(report, "TOTAL", total, failed, elapsed);
+            writeDistribution(reportDir.resolve("TOTAL.hgrm"), total);
+        }
+        System.out.println(Files.readString(reportDir.resolve("report.txt")));
+    }
+
+    private void printLine(PrintStream report, String label, Histogram histogram, long failed, Duration elapsed) {
+        report.printf("%-28s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label,
+                histogram.getTotalCount(),
+                failed,
+                (histogram.getTotalCount() + failed) / (elapsed.toMillis() / 1000.0),
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, "UTF-8")) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+}
@@ -0,0 +1,124 @@
+package com.weiz.Biblioteca.load;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL used by the load test: the local one given by {@code load.db.url} or an embedded one started for the run.
+ * The schema, functions and procedures are applied from {@code db/sql} in the order of docker-compose.yml.
+ */
+@Slf4j
+@Getter
+final class LoadDatabase implements AutoCloseable {
+
+    // ./db/sql/functions/fn_get_libros.sql:/docker-entrypoint-initdb.d/7.fn_get_libros.sql
+    private static final Pattern INIT_SCRIPT = Pattern.compile("\\./(db/sql/\\S+\\.sql):/docker-entrypoint-initdb\\.d/(\\d+)\\.");
+
+    private static final String SEED_AUTORES_SQL = """
+            INSERT INTO autor (nombre, apellido, nacionalidad)
+            SELECT 'Nombre ' || g, 'Apellido ' || g, (ARRAY['Colombiana', 'Argentina', 'Mexicana', 'Española', 'Chilena'])[1 + g % 5]
+            FROM generate_series(1, ?) g""";
+    private static final String SEED_LIBROS_SQL = """
+            WITH autores AS (SELECT array_agg(autor_id ORDER BY autor_id) AS ids FROM autor)
+            INSERT INTO libros (titulo, anio_publicacion, autor_id)
+            SELECT (ARRAY['Historia', 'Viaje', 'Noche', 'Memorias', 'Ciudad'])[1 + g % 5] || ' del libro ' || g,
+                   1900 + g % 125,
+                   ids[1 + g % cardinality(ids)]
+            FROM generate_series(1, ?) g, autores""";
+
+    private final EmbeddedPostgres embedded;
+    private final String url;
+    private final String user;
+    private final String password;
+
+    private LoadDatabase(EmbeddedPostgres embedded, String url, String user, String password) {
+        this.embedded = embedded;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+    }
+
+    static LoadDatabase start(LoadTestConfig config) throws IOException {
+        if (!config.dbUrl().isBlank()) {
+            log.info("Usando PostgreSQL local en {}", config.dbUrl());
+            return new LoadDatabase(null, config.dbUrl(), config.dbUser(), config.dbPassword());
+        }
+        EmbeddedPostgres embedded = EmbeddedPostgres.builder().start();
+        log.info("PostgreSQL embebido iniciado en el puerto {}", embedded.getPort());
+        return new LoadDatabase(embedded, embedded.getJdbcUrl("postgres", "postgres"), "postgres", "postgres");
+    }
+
+    /**
+     * Runs the scripts mounted into /docker-entrypoint-initdb.d by the compose file, in the same order.
+     */
+    void applyScripts(Path composeFile) throws IOException, SQLException {
+        Path baseDir = composeFile.toAbsolutePath().getParent();
+        Matcher matcher = INIT_SCRIPT.matcher(Files.readString(composeFile));
+        List<Map.Entry<Integer, Path>> scripts = matcher.results()
+                .map(result -> Map.entry(Integer.parseInt(result.group(2)), baseDir.resolve(result.group(1))))
+                .sorted(Comparator.comparing(Map.Entry::getKey))
+                .toList();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (Map.Entry<Integer, Path> script : scripts) {
+                log.info("Aplicando {}", script.getValue());
+                // The driver sends the whole file in one simple query, dollar-quoted bodies included
+                statement.execute(Files.readString(script.getValue()));
+            }
+        }
+    }
+
+    void seed(int autores, int libros) throws SQLException {
+        try (Connection connection = connect()) {
+            insert(connection, SEED_AUTORES_SQL, autores);
+            insert(connection, SEED_LIBROS_SQL, libros);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE autor");
+                statement.execute("ANALYZE libros");
+            }
+        }
+        log.info("Datos de prueba: {} autores, {} libros", autores, libros);
+    }
+
+    int maxId(String table, String column) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(%s), 0) FROM %s".formatted(column, table))) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private void insert(Connection connection, String sql, int count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, count);
+            statement.executeUpdate();
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (embedded != null) {
+            embedded.close();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.weiz.Biblioteca.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, read from {@code load.*} system properties.
+ *
+ * @param dbUrl       JDBC URL of a local PostgreSQL; when empty an embedded PostgreSQL is started.
+ * @param autores     Number of autores seeded before the run.
+ * @param libros      Number of libros seeded before the run.
+ * @param warmup      Time spent before the histograms start recording.
+ * @param duration    Recorded time.
+ * @param concurrency Number of clients sending requests.
+ * @param rate        Total requests per second; 0 sends the next request as soon as the previous one answers.
+ * @param mix         Weight of each operation.
+ * @param reportDir   Directory of the report and the histogram files.
+ */
+record LoadTestConfig(String dbUrl,
+                      String dbUser,
+                      String dbPassword,
+                      int autores,
+                      int libros,
+                      Duration warmup,
+                      Duration duration,
+                      int concurrency,
+                      int rate,
+                      Map<Operation, Integer> mix,
+                      Path reportDir) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("load.db.url", ""),
+                System.getProperty("load.db.user", "postgres"),
+                System.getProperty("load.db.password", "postgres"),
+                Integer.getInteger("load.autores", 1_000),
+                Integer.getInteger("load.libros", 100_000),
+                Duration.parse("PT" + System.getProperty("load.warmup", "15s")),
+                Duration.parse("PT" + System.getProperty("load.duration", "60s")),
+                Integer.getInteger("load.concurrency", 32),
+                Integer.getInteger("load.rate", 0),
+                parseMix(System.getProperty("load.mix", "")),
+                Path.of(System.getProperty("load.report-dir", "target/load-test")));
+    }
+
+    /**
+     * Parses {@code OPERATION=weight,...}; operations that are not listed get weight 0. Empty uses the default weights.
+     */
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        if (mix.isBlank()) {
+            for (Operation operation : Operation.values()) {
+                weights.put(operation, operation.getDefaultWeight());
+            }
+            return weights;
+        }
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, 0);
+        }
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("load.mix inválido: " + entry);
+            }
+            weights.put(Operation.valueOf(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,166 @@
+package com.weiz.Biblioteca.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weiz.Biblioteca.BibliotecaApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test: prepares PostgreSQL, boots the application on a random port and drives the request mix
+ * from {@code load.concurrency} clients, then writes the latency report.
+ * <p>
+ * Run it with {@code mvn -Pload verify}; application properties such as
+ * {@code -Dspring.datasource.hikari.maximum-pool-size=10} can be passed on the same command line.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        try (LoadDatabase database = LoadDatabase.start(config)) {
+            database.applyScripts(Path.of(System.getProperty("load.compose-file", "docker-compose.yml")));
+            database.seed(config.autores(), config.libros());
+            int maxAutorId = database.maxId("autor", "autor_id");
+            int maxLibroId = database.maxId("libros", "libro_id");
+
+            try (ConfigurableApplicationContext app = startApplication(database)) {
+                Environment environment = app.getEnvironment();
+                String baseUrl = "http://localhost:%s%s".formatted(
+                        environment.getProperty("local.server.port"), environment.getProperty("server.servlet.context-path"));
+                Workload workload = new Workload(baseUrl, config.mix(), maxAutorId, maxLibroId);
+                LatencyReport report = new LatencyReport();
+
+                run(config, workload, report);
+
+                report.write(config.reportDir(), config.duration(), List.of(
+                        "Prueba de carga Biblioteca",
+                        "autores=%d libros=%d clientes=%d tasa=%s calentamiento=%s duración=%s".formatted(
+                                config.autores(), config.libros(), config.concurrency(),
+                                config.rate() > 0 ? config.rate() + " req/s" : "sin límite", config.warmup(), config.duration()),
+                        "hikari.maximum-pool-size=%s virtual-threads=%s bulkhead=%s".formatted(
+                                environment.getProperty("spring.datasource.hikari.maximum-pool-size"),
+                                environment.getProperty("spring.threads.virtual.enabled"),
+                                environment.getProperty("app.db.bulkhead.enabled")),
+                        "mezcla=" + config.mix()));
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadDatabase database) {
+        // Default properties: anything passed as a system property (pool size, bulkhead, ...) still wins
+        return new SpringApplicationBuilder(BibliotecaApplication.class)
+                .properties(Map.of(
+                        "APP_NAME", "Biblioteca",
+                        "APP_CONTEXT_PATH", "/biblioteca",
+                        "APP_PORT_IN", "0",
+                        "spring.datasource.url", database.getUrl(),
+                        "spring.datasource.username", database.getUser(),
+                        "spring.datasource.password", database.getPassword(),
+                        "spring.devtools.restart.enabled", "false"))
+                .run();
+    }
+
+    /**
+     * Each client sends its next request when the previous one answers or, with {@code load.rate}, on a fixed schedule.
+     * With a schedule the latency counts from the planned send time, so queueing behind slow responses is not hidden.
+     */
+    private static void run(LoadTestConfig config, Workload workload, LatencyReport report) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long intervalNanos = config.rate() > 0 ? TimeUnit.SECONDS.toNanos(config.concurrency()) / config.rate() : 0;
+        long start = System.nanoTime();
+        long recordFrom = start + config.warmup().toNanos();
+        long end = recordFrom + config.duration().toNanos();
+        log.info("Calentamiento de {} y medición de {} con {} clientes", config.warmup(), config.duration(), config.concurrency());
+
+        ExecutorService clients = Executors.newFixedThreadPool(config.concurrency());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < config.concurrency(); i++) {
+                // Spread the first requests of the clients over one interval
+                long firstSend = start + (intervalNanos > 0 ? intervalNanos * i / config.concurrency() : 0);
+                futures.add(clients.submit(() -> {
+                    clientLoop(client, workload, report, firstSend, intervalNanos, recordFrom, end);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static void clientLoop(HttpClient client, Workload workload, LatencyReport report,
+                                   long firstSend, long intervalNanos, long recordFrom, long end) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long plannedSend = firstSend;
+        while (plannedSend < end) {
+            if (intervalNanos > 0) {
+                LockSupport.parkNanos(plannedSend - System.nanoTime());
+            }
+            long sent = intervalNanos > 0 ? plannedSend : System.nanoTime();
+            Operation operation = workload.next(random);
+            boolean ok;
+            try {
+                HttpResponse<String> response = client.send(workload.request(operation, random), HttpResponse.BodyHandlers.ofString());
+                ok = !isError(response);
+            } catch (IOException e) {
+                ok = false;
+            }
+            long finished = System.nanoTime();
+            if (sent >= recordFrom) {
+                if (ok) {
+                    report.recordSuccess(operation, TimeUnit.NANOSECONDS.toMicros(finished - sent));
+                } else {
+                    report.recordError(operation);
+                }
+            }
+            plannedSend = intervalNanos > 0 ? plannedSend + intervalNanos : finished;
+        }
+    }
+
+    /**
+     * The error handler answers CustomException and IdNotFoundException with HTTP 200 and the real status in the
+     * {@code code} field of the body, so the body is checked too.
+     */
+    private static boolean isError(HttpResponse<String> response) {
+        if (response.statusCode() >= 400) {
+            return true;
+        }
+        String body = response.body();
+        if (body == null || !body.startsWith("{") || !body.contains("\"code\"")) {
+            return false;
+        }
+        try {
+            return OBJECT_MAPPER.readTree(body).path("code").asInt() >= 400;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
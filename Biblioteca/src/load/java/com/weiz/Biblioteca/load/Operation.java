@@ -0,0 +1,25 @@
+package com.weiz.Biblioteca.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Requests sent by the load test, with the share of the mix they get by default.
+ * The full listings are left out of the default mix because their cost grows with the seeded volume.
+ */
+@Getter
+@AllArgsConstructor
+enum Operation {
+    LIBRO_BY_ID("GET /libros/{id}", 35),
+    LIBROS_PAGE("GET /libros/page", 15),
+    LIBROS_SEARCH("GET /libros/search", 10),
+    AUTOR_BY_ID("GET /autores/{id}", 10),
+    AUTOR_LIBROS("GET /autores/{id}/libros", 10),
+    LIBRO_CREATE("POST /libros", 10),
+    LIBRO_UPDATE("PUT /libros/{id}", 10),
+    LIBROS_ALL("GET /libros", 0),
+    AUTORES_ALL("GET /autores", 0);
+
+    private final String label;
+    private final int defaultWeight;
+}
@@ -0,0 +1,89 @@
+package com.weiz.Biblioteca.load;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Builds the requests of the mix: picks an operation by weight and random ids within the seeded rows.
+ */
+final class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] SEARCH_TERMS = {"historia", "viaje", "noche", "memorias", "ciudad", "Nombre 42", "libro 1000"};
+
+    private final String baseUrl;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int maxAutorId;
+    private final int maxLibroId;
+
+    Workload(String baseUrl, Map<Operation, Integer> mix, int maxAutorId, int maxLibroId) {
+        this.baseUrl = baseUrl;
+        this.operations = mix.entrySet().stream().filter(entry -> entry.getValue() > 0).map(Map.Entry::getKey).toArray(Operation[]::new);
+        if (operations.length == 0) {
+            throw new IllegalArgumentException("load.mix no tiene operaciones con peso mayor que 0");
+        }
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.maxAutorId = maxAutorId;
+        this.maxLibroId = maxLibroId;
+    }
+
+    Operation next(ThreadLocalRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    HttpRequest request(Operation operation, ThreadLocalRandom random) {
+        return switch (operation) {
+            case LIBRO_BY_ID -> get("/libros/" + libroId(random));
+            case LIBROS_PAGE -> get("/libros/page?limit=20");
+            case LIBROS_SEARCH -> get("/libros/search?limit=20&q=" + URLEncoder.encode(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], StandardCharsets.UTF_8));
+            case AUTOR_BY_ID -> get("/autores/" + autorId(random));
+            case AUTOR_LIBROS -> get("/autores/" + autorId(random) + "/libros?limit=20");
+            case LIBRO_CREATE -> builder("/libros").POST(libroBody(random)).build();
+            case LIBRO_UPDATE -> builder("/libros/" + libroId(random)).PUT(libroBody(random)).build();
+            case LIBROS_ALL -> get("/libros");
+            case AUTORES_ALL -> get("/autores");
+        };
+    }
+
+    private int libroId(ThreadLocalRandom random) {
+        return random.nextInt(1, maxLibroId + 1);
+    }
+
+    private int autorId(ThreadLocalRandom random) {
+        return random.nextInt(1, maxAutorId + 1);
+    }
+
+    private HttpRequest.BodyPublisher libroBody(ThreadLocalRandom random) {
+        String json = "{\"titulo\":\"Libro de carga %d\",\"anioPublicacion\":%d,\"idAutor\":%d}"
+                .formatted(random.nextInt(1_000_000), random.nextInt(1900, 2025), autorId(random));
+        return HttpRequest.BodyPublishers.ofString(json);
+    }
+
+    private HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+}
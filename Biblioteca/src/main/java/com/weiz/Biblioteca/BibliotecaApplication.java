@@ -14,8 +14,8 @@ public class BibliotecaApplication {
 				.ignoreIfMissing()
 				.load();
 
-		// Establecer las variables como propiedades del sistema
-		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+		// Establecer las variables como propiedades del sistema; solo las del archivo, las del entorno ya las lee Spring
+		dotenv.entries(Dotenv.Filter.DECLARED_IN_ENV_FILE).forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
 
 		// Iniciar la aplicación Spring Boot
 		SpringApplication.run(BibliotecaApplication.class, args);
@@ -1,15 +1,26 @@
 package com.weiz.Biblioteca.api.controllers;
 
 import com.weiz.Biblioteca.api.requests.AutorRequest;
+import com.weiz.Biblioteca.api.responses.AutorLibrosResponse;
 import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.ImportResponse;
+import com.weiz.Biblioteca.api.responses.MultiGetResponse;
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import com.weiz.Biblioteca.infraestructure.batching.CatalogWriteCoalescer;
+import com.weiz.Biblioteca.infraestructure.cache.CatalogSnapshot;
+import com.weiz.Biblioteca.infraestructure.cache.CatalogVersion;
 import com.weiz.Biblioteca.infraestructure.services.imp.IAutorService;
+import com.weiz.Biblioteca.infraestructure.services.imp.ILIbroService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Set;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "autores")
@@ -17,23 +28,77 @@ import java.util.Set;
 public class AutorController {
 
     private final IAutorService autorService;
+    private final ILIbroService libroService;
+    private final CatalogVersion catalogVersion;
+    private final CatalogSnapshot catalogSnapshot;
+    private final CatalogWriteCoalescer catalogWriteCoalescer;
 
     @GetMapping
-    public ResponseEntity<Set<AutorResponse>> get() {
+    public ResponseEntity<?> get(@RequestParam(required = false) String fields, WebRequest webRequest) {
+        // Answers 304 from the in-memory catalog version, before querying or serializing anything
+        if (webRequest.checkNotModified(catalogVersion.autoresETag(), catalogVersion.autoresLastModified())) {
+            return null;
+        }
+        // Sparse fieldset: only the requested columns are selected and serialized
+        if (fields != null) {
+            var rows = autorService.readAll(fields);
+            return rows.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(rows);
+        }
+        // Pre-serialized bytes while the snapshot matches the current version
+        var snapshot = catalogSnapshot.autores();
+        if (snapshot != null) {
+            return snapshot.toResponse(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        }
         var response = autorService.readAll();
         return response.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
     }
 
+    // ids=1,2,3 or ids=1&ids=2: one query for all the ids, the ones that do not exist are listed in missing
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<AutorResponse>> getByIds(@RequestParam List<Integer> ids, WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.autoresETag(), catalogVersion.autoresLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(autorService.readByIds(ids));
+    }
+
+    // Same as getByIds with the ids in the body, for lists that do not fit in the URL
+    @PostMapping(path = "ids")
+    public ResponseEntity<MultiGetResponse<AutorResponse>> postByIds(@RequestBody List<Integer> ids) {
+        return ResponseEntity.ok(autorService.readByIds(ids));
+    }
+
+    @GetMapping(path = "page")
+    public ResponseEntity<PageResponse<?>> getPage(@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String fields) {
+        PageResponse<?> response = fields == null ? autorService.readPage(cursor, limit) : autorService.readPage(cursor, limit, fields);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping(path = "{id}")
-    public ResponseEntity<AutorResponse> get(@PathVariable Integer id) {
-        var response = autorService.readById(id);
+    public ResponseEntity<?> get(@PathVariable Integer id, @RequestParam(required = false) String fields, WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.autorETag(id), catalogVersion.autoresLastModified())) {
+            return null;
+        }
+        Object response = fields == null ? autorService.readById(id) : autorService.readById(id, fields);
         return ResponseEntity.ok(response);
     }
 
 
+    @GetMapping(path = "{id}/libros")
+    public ResponseEntity<AutorLibrosResponse> getLibros(@PathVariable Integer id, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        var response = libroService.readByAutor(id, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     public ResponseEntity<AutorResponse> post(@Valid @RequestBody AutorRequest request) {
-        var response = autorService.create(request);
+        var response = catalogWriteCoalescer.createAutor(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(path = "import", consumes = "text/csv")
+    public ResponseEntity<ImportResponse> importCsv(InputStream inputStream) {
+        var response = autorService.importCsv(inputStream);
         return ResponseEntity.ok(response);
     }
 
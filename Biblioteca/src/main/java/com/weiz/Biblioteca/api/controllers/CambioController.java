@@ -0,0 +1,23 @@
+package com.weiz.Biblioteca.api.controllers;
+
+import com.weiz.Biblioteca.infraestructure.changefeed.CatalogChangeFeed;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping(path = "cambios")
+@ConditionalOnProperty(name = "app.change-feed.enabled", havingValue = "true", matchIfMissing = true)
+@AllArgsConstructor
+public class CambioController {
+    private final CatalogChangeFeed catalogChangeFeed;
+
+    // EventSource sends Last-Event-ID on reconnect; the "desde" parameter allows resuming from a stored id
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+                                @RequestParam(required = false) String desde) {
+        return catalogChangeFeed.subscribe(lastEventId != null ? lastEventId : desde);
+    }
+}
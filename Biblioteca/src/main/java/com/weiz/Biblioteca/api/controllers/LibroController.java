@@ -1,39 +1,141 @@
 package com.weiz.Biblioteca.api.controllers;
 
 import com.weiz.Biblioteca.api.requests.AutorRequest;
+import com.weiz.Biblioteca.api.requests.LibroBatchUpdateRequest;
 import com.weiz.Biblioteca.api.requests.LibroRequest;
 import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.BatchResponse;
 import com.weiz.Biblioteca.api.responses.LibroResponse;
+import com.weiz.Biblioteca.api.responses.LibrosPorDecadaResponse;
+import com.weiz.Biblioteca.api.responses.LibrosPorNacionalidadResponse;
+import com.weiz.Biblioteca.api.responses.MultiGetResponse;
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import com.weiz.Biblioteca.api.responses.TopAutorResponse;
+import com.weiz.Biblioteca.infraestructure.batching.CatalogWriteCoalescer;
+import com.weiz.Biblioteca.infraestructure.cache.CatalogSnapshot;
+import com.weiz.Biblioteca.infraestructure.cache.CatalogVersion;
 import com.weiz.Biblioteca.infraestructure.services.imp.ILIbroService;
+import com.weiz.Biblioteca.util.ExportFormat;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.Set;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "libros")
 @AllArgsConstructor
 public class LibroController {
     private final ILIbroService libroService;
+    private final CatalogVersion catalogVersion;
+    private final CatalogSnapshot catalogSnapshot;
+    private final CatalogWriteCoalescer catalogWriteCoalescer;
 
     @GetMapping
-    public ResponseEntity<Set<LibroResponse>> get() {
+    public ResponseEntity<?> get(@RequestParam(required = false) String fields, WebRequest webRequest) {
+        // Answers 304 from the in-memory catalog version, before querying or serializing anything
+        if (webRequest.checkNotModified(catalogVersion.librosETag(), catalogVersion.librosLastModified())) {
+            return null;
+        }
+        // Sparse fieldset: only the requested columns are selected and serialized
+        if (fields != null) {
+            var rows = libroService.readAll(fields);
+            return rows.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(rows);
+        }
+        // Pre-serialized bytes while the snapshot matches the current version
+        var snapshot = catalogSnapshot.libros();
+        if (snapshot != null) {
+            return snapshot.toResponse(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        }
         var response = libroService.readAll();
         return response.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
     }
 
+    // ids=1,2,3 or ids=1&ids=2: one query for all the ids, the ones that do not exist are listed in missing
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<LibroResponse>> getByIds(@RequestParam List<Integer> ids, WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.librosETag(), catalogVersion.librosLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(libroService.readByIds(ids));
+    }
+
+    // Same as getByIds with the ids in the body, for lists that do not fit in the URL
+    @PostMapping(path = "ids")
+    public ResponseEntity<MultiGetResponse<LibroResponse>> postByIds(@RequestBody List<Integer> ids) {
+        return ResponseEntity.ok(libroService.readByIds(ids));
+    }
+
+    @GetMapping(path = "page")
+    public ResponseEntity<PageResponse<?>> getPage(@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String fields) {
+        PageResponse<?> response = fields == null ? libroService.readPage(cursor, limit) : libroService.readPage(cursor, limit, fields);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(path = "search")
+    public ResponseEntity<PageResponse<LibroResponse>> search(@RequestParam String q, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        var response = libroService.search(q, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(path = "export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        var exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = outputStream -> libroService.export(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=libros.%s".formatted(exportFormat.getExtension()))
+                .body(body);
+    }
+
+    @GetMapping(path = "stats/decadas")
+    public ResponseEntity<List<LibrosPorDecadaResponse>> getStatsDecadas(WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.librosETag(), catalogVersion.librosLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(libroService.countByDecada());
+    }
+
+    @GetMapping(path = "stats/nacionalidades")
+    public ResponseEntity<List<LibrosPorNacionalidadResponse>> getStatsNacionalidades(WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.librosETag(), catalogVersion.librosLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(libroService.countByNacionalidad());
+    }
+
+    @GetMapping(path = "stats/autores")
+    public ResponseEntity<List<TopAutorResponse>> getStatsAutores(@RequestParam(required = false) Integer limit, WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.librosETag(), catalogVersion.librosLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(libroService.topAutores(limit));
+    }
+
     @GetMapping(path = "{id}")
-    public ResponseEntity<LibroResponse> get(@PathVariable Integer id) {
-        var response = libroService.readById(id);
+    public ResponseEntity<?> get(@PathVariable Integer id, @RequestParam(required = false) String fields, WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.libroETag(id), catalogVersion.librosLastModified())) {
+            return null;
+        }
+        Object response = fields == null ? libroService.readById(id) : libroService.readById(id, fields);
         return response == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(response);
     }
 
     @PostMapping
     public ResponseEntity<LibroResponse> post(@Valid @RequestBody LibroRequest request) {
-        var response = libroService.create(request);
+        var response = catalogWriteCoalescer.createLibro(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(path = "batch")
+    public ResponseEntity<BatchResponse<LibroResponse>> postBatch(@RequestBody List<LibroRequest> requests) {
+        var response = libroService.createBatch(requests);
         return ResponseEntity.ok(response);
     }
 
@@ -43,6 +145,12 @@ public class LibroController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping(path = "batch")
+    public ResponseEntity<BatchResponse<LibroResponse>> putBatch(@RequestBody List<LibroBatchUpdateRequest> requests) {
+        var response = libroService.updateBatch(requests);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping(path = "{id}")
     public ResponseEntity<String> delete(@PathVariable Integer id) {
         libroService.delete(id);
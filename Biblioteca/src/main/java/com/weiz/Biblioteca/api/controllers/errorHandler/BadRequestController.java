@@ -3,10 +3,14 @@ package com.weiz.Biblioteca.api.controllers.errorHandler;
 import com.weiz.Biblioteca.api.responses.errors.BaseErrorResponse;
 import com.weiz.Biblioteca.api.responses.errors.ErrorResponse;
 import com.weiz.Biblioteca.api.responses.errors.ErrorsResponse;
+import com.weiz.Biblioteca.util.Exceptions.BulkheadFullException;
 import com.weiz.Biblioteca.util.Exceptions.CustomException;
 import com.weiz.Biblioteca.util.Exceptions.IdNotFoundException;
+import com.weiz.Biblioteca.util.Exceptions.WriteOutcomeUnknownException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -40,6 +44,45 @@ public class BadRequestController {
                 .build();
     }
 
+    /**
+     * Handles BulkheadFullException, answering 503 with a Retry-After header so clients back off instead of
+     * waiting for a database connection.
+     *
+     * @param exception the BulkheadFullException thrown when the database wait queue is full
+     * @return a 503 response with the error details
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<BaseErrorResponse> handleBulkheadFullException(BulkheadFullException exception, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(ErrorResponse.builder()
+                        .message(exception.getMessage())
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.name())
+                        .code(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .timestamp(LocalDateTime.now().toString())
+                        .path(request.getRequestURI())
+                        .build());
+    }
+
+    /**
+     * Handles WriteOutcomeUnknownException, answering 503 without a Retry-After header: the write may still commit, so
+     * repeating it blindly could create a duplicate.
+     *
+     * @param exception the WriteOutcomeUnknownException thrown when a coalesced write does not finish in time
+     * @return a 503 response with the error details
+     */
+    @ExceptionHandler(WriteOutcomeUnknownException.class)
+    public ResponseEntity<BaseErrorResponse> handleWriteOutcomeUnknownException(WriteOutcomeUnknownException exception, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.builder()
+                        .message(exception.getMessage())
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.name())
+                        .code(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .timestamp(LocalDateTime.now().toString())
+                        .path(request.getRequestURI())
+                        .build());
+    }
+
     /**
      * Handles MethodArgumentNotValidException and constructs an ErrorsResponse containing
      * validation errors with their respective messages.
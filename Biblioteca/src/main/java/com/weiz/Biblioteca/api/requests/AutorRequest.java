@@ -18,5 +18,6 @@ public class AutorRequest {
     @NotBlank(message = "El apellido no puede estar vacío")
     @Size(max = 255, message = "El apellido no puede exceder los 255 caracteres")
     private String apellido;
+    @Size(max = 100, message = "La nacionalidad no puede exceder los 100 caracteres")
     private String nacionalidad;
 }
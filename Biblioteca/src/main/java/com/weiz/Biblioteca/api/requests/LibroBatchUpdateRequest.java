@@ -0,0 +1,24 @@
+package com.weiz.Biblioteca.api.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@ToString
+public class LibroBatchUpdateRequest {
+
+    @NotNull(message = "El ID del libro es requerido")
+    @Min(value = 1, message = "El ID del libro debe ser mayor que 0")
+    private Integer id;
+
+    @Valid
+    @NotNull(message = "Los datos del libro son requeridos")
+    private LibroRequest libro;
+}
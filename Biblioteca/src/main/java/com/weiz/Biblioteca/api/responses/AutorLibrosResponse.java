@@ -0,0 +1,16 @@
+package com.weiz.Biblioteca.api.responses;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class AutorLibrosResponse {
+    private AutorResponse autor;
+    private Long totalLibros;
+    private PageResponse<LibroResponse> libros;
+}
@@ -0,0 +1,20 @@
+package com.weiz.Biblioteca.api.responses;
+
+import lombok.*;
+
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class BatchItemResponse<T> {
+    private Integer index;
+    private String status;
+    private Integer code;
+    private T data;
+    private Map<String, String> errors;
+}
@@ -0,0 +1,19 @@
+package com.weiz.Biblioteca.api.responses;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class BatchResponse<T> {
+    private Integer total;
+    private Integer succeeded;
+    private Integer failed;
+    private List<BatchItemResponse<T>> items;
+}
@@ -0,0 +1,19 @@
+package com.weiz.Biblioteca.api.responses;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class ImportResponse {
+    private Long total;
+    private Long inserted;
+    private Long rejected;
+    private List<RejectedRowResponse> rejectedRows;
+}
@@ -0,0 +1,15 @@
+package com.weiz.Biblioteca.api.responses;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class LibrosPorNacionalidadResponse {
+    private String nacionalidad;
+    private Long totalLibros;
+}
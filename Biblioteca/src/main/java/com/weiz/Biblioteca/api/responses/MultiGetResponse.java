@@ -0,0 +1,17 @@
+package com.weiz.Biblioteca.api.responses;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class MultiGetResponse<T> {
+    private List<T> items;
+    private List<Integer> missing;
+}
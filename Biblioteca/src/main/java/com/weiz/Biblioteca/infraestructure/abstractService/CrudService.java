@@ -1,15 +1,49 @@
 package com.weiz.Biblioteca.infraestructure.abstractService;
 
+import com.weiz.Biblioteca.api.responses.PageResponse;
+
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface CrudService<Req, Res, Id> {
     Set<Res> readAll();
 
+    /**
+     * Reads one page of records ordered by id using keyset pagination.
+     *
+     * @param cursor Opaque cursor returned by the previous page, null for the first page.
+     * @param limit  Maximum number of records in the page, null for the default size.
+     * @return The requested page and the cursor of the next one.
+     */
+    PageResponse<Res> readPage(String cursor, Integer limit);
+
+    /**
+     * Same as {@link #readAll()}, selecting and returning only the requested fields.
+     *
+     * @param fields Comma separated fields, e.g. {@code id,titulo}.
+     */
+    List<Map<String, Object>> readAll(String fields);
+
+    /**
+     * Same as {@link #readPage(String, Integer)}, selecting and returning only the requested fields.
+     *
+     * @param fields Comma separated fields, e.g. {@code id,titulo}.
+     */
+    PageResponse<Map<String, Object>> readPage(String cursor, Integer limit, String fields);
+
     Res create(Req request);
 
     Res readById(Id id);
 
+    /**
+     * Same as {@link #readById(Object)}, returning only the requested fields.
+     *
+     * @param fields Comma separated fields, e.g. {@code id,titulo}.
+     */
+    Map<String, Object> readById(Id id, String fields);
+
     Res update(Req request, Id id) throws InvocationTargetException, IllegalAccessException;
 
     void delete(Id id);
@@ -0,0 +1,16 @@
+package com.weiz.Biblioteca.infraestructure.aot;
+
+import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.LibroResponse;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reflection hints for the native image (mvn -Pnative package). AOT registers the types returned by the controllers,
+ * but the snapshots, the export and the {@code ResponseEntity<?>} endpoints serialize these through the
+ * {@code ObjectMapper} directly.
+ */
+@Configuration
+@RegisterReflectionForBinding({AutorResponse.class, LibroResponse.class})
+public class NativeHintsConfig {
+}
@@ -0,0 +1,110 @@
+package com.weiz.Biblioteca.infraestructure.batching;
+
+import com.weiz.Biblioteca.api.requests.AutorRequest;
+import com.weiz.Biblioteca.api.requests.LibroRequest;
+import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.BatchItemResponse;
+import com.weiz.Biblioteca.api.responses.BatchResponse;
+import com.weiz.Biblioteca.api.responses.LibroResponse;
+import com.weiz.Biblioteca.infraestructure.services.imp.IAutorService;
+import com.weiz.Biblioteca.infraestructure.services.imp.ILIbroService;
+import com.weiz.Biblioteca.util.BatchResults;
+import com.weiz.Biblioteca.util.Exceptions.BulkheadFullException;
+import com.weiz.Biblioteca.util.Exceptions.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Entry point of {@code POST /autores} and {@code POST /libros}. When {@code app.write-coalescer.enabled} is set, the
+ * concurrent creates are grouped and inserted through {@code createBatch}, one transaction and one pooled connection
+ * per batch; otherwise each create goes straight to the service.
+ * <p>
+ * It lives outside the services package on purpose: the callers wait here without holding a permit of the database
+ * bulkhead, only the flusher takes one for the whole batch.
+ */
+@Component
+@Slf4j
+public class CatalogWriteCoalescer {
+
+    private final IAutorService autorService;
+    private final ILIbroService libroService;
+    private final WriteCoalescer<AutorRequest, AutorResponse> autores;
+    private final WriteCoalescer<LibroRequest, LibroResponse> libros;
+
+    public CatalogWriteCoalescer(IAutorService autorService,
+                                 ILIbroService libroService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.write-coalescer.enabled:false}") boolean enabled,
+                                 @Value("${app.write-coalescer.window:5ms}") Duration window,
+                                 @Value("${app.write-coalescer.max-batch-size:200}") int maxBatchSize,
+                                 @Value("${app.write-coalescer.flushers:2}") int flushers,
+                                 @Value("${app.write-coalescer.timeout:30s}") Duration timeout) {
+        this.autorService = autorService;
+        this.libroService = libroService;
+        int batchSize = Math.min(maxBatchSize, BatchResults.MAX_BATCH_SIZE);
+        this.autores = enabled
+                ? new WriteCoalescer<>("autores", window, batchSize, flushers, timeout,
+                        batch -> runBatch(batch, autorService::createBatch, autorService::create), meterRegistry)
+                : null;
+        this.libros = enabled
+                ? new WriteCoalescer<>("libros", window, batchSize, flushers, timeout,
+                        batch -> runBatch(batch, libroService::createBatch, libroService::create), meterRegistry)
+                : null;
+    }
+
+    public AutorResponse createAutor(AutorRequest request) {
+        return autores == null ? autorService.create(request) : autores.submit(request);
+    }
+
+    public LibroResponse createLibro(LibroRequest request) {
+        return libros == null ? libroService.create(request) : libros.submit(request);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (autores != null) {
+            autores.close();
+        }
+        if (libros != null) {
+            libros.close();
+        }
+    }
+
+    private static <Req, Res> void runBatch(List<WriteCoalescer.Pending<Req, Res>> batch,
+                                            Function<List<Req>, BatchResponse<Res>> createBatch,
+                                            Function<Req, Res> create) {
+        BatchResponse<Res> response;
+        try {
+            response = createBatch.apply(batch.stream().map(WriteCoalescer.Pending::request).toList());
+        } catch (BulkheadFullException e) {
+            batch.forEach(pending -> pending.fail(e));
+            return;
+        } catch (RuntimeException e) {
+            // A database error rolls back the whole batch: each write is retried alone to get its own result
+            log.warn("El lote de {} escrituras falló, se reintenta cada una por separado: {}", batch.size(), e.getMessage());
+            for (WriteCoalescer.Pending<Req, Res> pending : batch) {
+                try {
+                    pending.complete(create.apply(pending.request()));
+                } catch (RuntimeException error) {
+                    pending.fail(error);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            BatchItemResponse<Res> item = response.getItems().get(i);
+            if (item.getErrors() == null) {
+                batch.get(i).complete(item.getData());
+            } else {
+                batch.get(i).fail(new CustomException(String.join(", ", item.getErrors().values())));
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.weiz.Biblioteca.infraestructure.batching;
+
+import com.weiz.Biblioteca.util.Exceptions.WriteOutcomeUnknownException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Gathers the single writes submitted by concurrent callers and hands them to a batch handler: a batch closes when it
+ * reaches {@code maxBatchSize} or when {@code window} has passed since its first write. Each caller waits for its own
+ * result, so one failed write does not fail the others.
+ *
+ * @param <Req> The request of a single write.
+ * @param <Res> The response of a single write.
+ */
+@Slf4j
+public class WriteCoalescer<Req, Res> implements AutoCloseable {
+
+    private static final String ERROR_NOT_COMPLETED_MESSAGE = "La escritura agrupada no devolvió resultado";
+    private static final String ERROR_STOPPED_MESSAGE = "El agrupador de escrituras está detenido";
+    private static final String ERROR_BATCH_FAILED_MESSAGE = "Error al ejecutar la escritura agrupada";
+
+    private final String name;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private final Consumer<List<Pending<Req, Res>>> handler;
+    private final BlockingQueue<Pending<Req, Res>> queue = new LinkedBlockingQueue<>();
+    private final List<Thread> flushers = new ArrayList<>();
+    private final DistributionSummary batchSizes;
+    private volatile boolean running = true;
+
+    /**
+     * @param timeout How long a caller waits for its result before giving up.
+     * @param handler Runs one batch; it must complete every {@link Pending} of the list, the ones it leaves
+     *                uncompleted are failed. Runs on a flusher thread, never on the thread of a caller.
+     */
+    public WriteCoalescer(String name, Duration window, int maxBatchSize, int flusherThreads, Duration timeout,
+                          Consumer<List<Pending<Req, Res>>> handler, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        this.handler = handler;
+        this.batchSizes = DistributionSummary.builder("biblioteca.write.coalescer.batch.size")
+                .description("Writes executed together in one batch")
+                .tag("writer", name)
+                .register(meterRegistry);
+        for (int i = 0; i < flusherThreads; i++) {
+            flushers.add(Thread.ofPlatform().name("write-coalescer-%s-%d".formatted(name, i)).daemon().start(this::flushLoop));
+        }
+    }
+
+    /**
+     * Queues a write and waits for its result.
+     *
+     * @return The response of this write.
+     * @throws RuntimeException The error of this write, as the single write would have thrown it.
+     * @throws IllegalStateException        If the coalescer is stopped.
+     * @throws WriteOutcomeUnknownException If the result does not arrive within the timeout. The write stays queued
+     *                                      or in its running batch, so it may still commit after the caller gave up.
+     */
+    public Res submit(Req request) {
+        if (!running) {
+            throw new IllegalStateException(ERROR_STOPPED_MESSAGE);
+        }
+        Pending<Req, Res> pending = new Pending<>(request, new CompletableFuture<>());
+        queue.add(pending);
+        // close() may have drained the queue between the check and the add
+        if (!running && queue.remove(pending)) {
+            throw new IllegalStateException(ERROR_STOPPED_MESSAGE);
+        }
+        try {
+            return pending.result().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new WriteOutcomeUnknownException(e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void flushLoop() {
+        List<Pending<Req, Res>> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    Pending<Req, Res> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending<Req, Res>> batch) {
+        // Writes whose caller already gave up are not executed
+        List<Pending<Req, Res>> live = batch.stream().filter(pending -> !pending.result().isDone()).toList();
+        if (live.isEmpty()) {
+            return;
+        }
+        batchSizes.record(live.size());
+        try {
+            handler.accept(live);
+        } catch (Throwable e) {
+            // Errors too: the flusher must survive and no caller may be left waiting for a batch that died
+            log.error("Error al ejecutar el lote de {} escrituras de {}", live.size(), name, e);
+            RuntimeException failure = e instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException(ERROR_BATCH_FAILED_MESSAGE, e);
+            live.forEach(pending -> pending.fail(failure));
+        }
+        live.forEach(pending -> pending.fail(new IllegalStateException(ERROR_NOT_COMPLETED_MESSAGE)));
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        flushers.forEach(Thread::interrupt);
+        List<Pending<Req, Res>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.fail(new IllegalStateException(ERROR_STOPPED_MESSAGE)));
+    }
+
+    /**
+     * A queued write and the result its caller is waiting for. Completing it more than once has no effect.
+     */
+    public record Pending<Req, Res>(Req request, CompletableFuture<Res> result) {
+
+        public void complete(Res response) {
+            result.complete(response);
+        }
+
+        public void fail(RuntimeException error) {
+            result.completeExceptionally(error);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.weiz.Biblioteca.infraestructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.LibroResponse;
+import com.weiz.Biblioteca.infraestructure.events.CatalogChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache for {@code readById} of authors and books, and for the catalog statistics.
+ * Entries expire after the configured TTL and the least used ones are evicted once the maximum size is reached.
+ * Hit, miss and eviction counters are published through Micrometer as {@code cache.*} metrics.
+ * <p>
+ * Every {@link CatalogChangedEvent}, local or received through the change feed, evicts the changed rows. A row loaded
+ * while the catalog version changed is not kept: it may come from a replica that had not replayed the change yet.
+ */
+@Component
+public class CatalogCache {
+
+    // One entry per statistic and requested limit; the entries of older versions are dropped on every write
+    private static final long MAX_ESTADISTICAS = 500;
+
+    private final Cache<Integer, AutorResponse> autores;
+    private final Cache<Integer, LibroResponse> libros;
+    private final Cache<String, List<?>> estadisticas;
+    private final CatalogVersion catalogVersion;
+
+    public CatalogCache(MeterRegistry meterRegistry,
+                        CatalogVersion catalogVersion,
+                        @Value("${app.cache.max-size:10000}") long maxSize,
+                        @Value("${app.cache.ttl:10m}") Duration ttl) {
+        this.autores = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        this.libros = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        this.estadisticas = Caffeine.newBuilder().maximumSize(MAX_ESTADISTICAS).expireAfterWrite(ttl).recordStats().build();
+        this.catalogVersion = catalogVersion;
+        CaffeineCacheMetrics.monitor(meterRegistry, autores, "autores");
+        CaffeineCacheMetrics.monitor(meterRegistry, libros, "libros");
+        CaffeineCacheMetrics.monitor(meterRegistry, estadisticas, "estadisticas");
+    }
+
+    public AutorResponse getAutor(Integer id, Function<Integer, AutorResponse> loader) {
+        String version = catalogVersion.autoresETag();
+        AutorResponse autor = autores.get(id, loader);
+        if (!version.equals(catalogVersion.autoresETag())) {
+            autores.invalidate(id);
+        }
+        return autor;
+    }
+
+    public LibroResponse getLibro(Integer id, Function<Integer, LibroResponse> loader) {
+        String version = catalogVersion.librosETag();
+        LibroResponse libro = libros.get(id, loader);
+        if (!version.equals(catalogVersion.librosETag())) {
+            libros.invalidate(id);
+        }
+        return libro;
+    }
+
+    /**
+     * Returns the cached authors and loads all the misses with a single call to the loader.
+     * Ids the loader does not return are left out of the result and are not cached.
+     */
+    public Map<Integer, AutorResponse> getAutores(Collection<Integer> ids, Function<Set<? extends Integer>, Map<Integer, AutorResponse>> loader) {
+        String version = catalogVersion.autoresETag();
+        Map<Integer, AutorResponse> found = autores.getAll(ids, loader);
+        if (!version.equals(catalogVersion.autoresETag())) {
+            autores.invalidateAll(ids);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the cached books and loads all the misses with a single call to the loader.
+     * Ids the loader does not return are left out of the result and are not cached.
+     */
+    public Map<Integer, LibroResponse> getLibros(Collection<Integer> ids, Function<Set<? extends Integer>, Map<Integer, LibroResponse>> loader) {
+        String version = catalogVersion.librosETag();
+        Map<Integer, LibroResponse> found = libros.getAll(ids, loader);
+        if (!version.equals(catalogVersion.librosETag())) {
+            libros.invalidateAll(ids);
+        }
+        return found;
+    }
+
+    /**
+     * Returns a statistic of the current catalog, computing it only on the first request after a write.
+     * The entry is keyed by the {@link CatalogVersion} read before the computation, so a result computed while a write
+     * commits is stored under the old version and never served for the new one.
+     *
+     * @param name   Name of the statistic, including its parameters.
+     * @param loader Computes the statistic on a miss.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getEstadistica(String name, Supplier<List<T>> loader) {
+        return (List<T>) estadisticas.get(name + "@" + catalogVersion.librosETag(), key -> loader.get());
+    }
+
+    // Runs after CatalogVersion, so a load in progress sees the new version and drops what it read.
+    // Every write changes the version, so the statistics of the previous one are no longer reachable
+    @Order(2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        estadisticas.invalidateAll();
+        if (event.resource() == CatalogChangedEvent.Resource.LIBRO) {
+            if (event.allIds()) {
+                libros.invalidateAll();
+            } else {
+                libros.invalidateAll(event.ids());
+            }
+        } else if (event.allIds()) {
+            autores.invalidateAll();
+            libros.invalidateAll();
+        } else {
+            autores.invalidateAll(event.ids());
+            // Books embed their author
+            libros.asMap().values().removeIf(libro -> libro.getAutor() != null && event.ids().contains(libro.getAutor().getId()));
+        }
+    }
+
+    /**
+     * Evicts an author and every cached book that embeds it.
+     */
+    public void evictAutor(Integer id) {
+        afterWrite(() -> {
+            autores.invalidate(id);
+            libros.asMap().values().removeIf(libro -> libro.getAutor() != null && id.equals(libro.getAutor().getId()));
+        });
+    }
+
+    public void evictLibro(Integer id) {
+        afterWrite(() -> libros.invalidate(id));
+    }
+
+    public void evictLibros(Collection<Integer> ids) {
+        afterWrite(() -> libros.invalidateAll(ids));
+    }
+
+    /**
+     * Runs the eviction right away and again after the commit, so a concurrent read that happens between the write and
+     * the commit cannot leave the old row cached.
+     */
+    private static void afterWrite(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.weiz.Biblioteca.infraestructure.cache;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weiz.Biblioteca.infraestructure.events.CatalogChangedEvent;
+import com.weiz.Biblioteca.infraestructure.services.imp.IAutorService;
+import com.weiz.Biblioteca.infraestructure.services.imp.ILIbroService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized JSON of {@code GET /autores} and {@code GET /libros}, kept with gzip and brotli variants so hot reads
+ * only copy bytes to the response.
+ * <p>
+ * Snapshots are rebuilt in the background after every committed write; several writes in a row cause a single rebuild.
+ * A snapshot is only served while its ETag is the current {@link CatalogVersion}, so a stale one is never returned;
+ * in the meantime the controllers fall back to the regular query.
+ */
+@Component
+@Slf4j
+public class CatalogSnapshot {
+
+    private final IAutorService autorService;
+    private final ILIbroService libroService;
+    private final ObjectMapper objectMapper;
+    private final CatalogVersion catalogVersion;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final int brotliQuality;
+    private final boolean brotliAvailable;
+
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("catalog-snapshot").daemon().factory());
+    private final Slot autores = new Slot();
+    private final Slot libros = new Slot();
+
+    public CatalogSnapshot(IAutorService autorService,
+                           ILIbroService libroService,
+                           ObjectMapper objectMapper,
+                           CatalogVersion catalogVersion,
+                           @Value("${app.snapshot.enabled:true}") boolean enabled,
+                           @Value("${app.snapshot.max-size:64MB}") DataSize maxSize,
+                           @Value("${app.snapshot.brotli-quality:9}") int brotliQuality) {
+        this.autorService = autorService;
+        this.libroService = libroService;
+        this.objectMapper = objectMapper;
+        this.catalogVersion = catalogVersion;
+        this.enabled = enabled;
+        this.maxBytes = maxSize.toBytes();
+        this.brotliQuality = brotliQuality;
+        this.brotliAvailable = enabled && Brotli4jLoader.isAvailable();
+        if (enabled && !brotliAvailable) {
+            log.warn("Brotli no está disponible en esta plataforma, las instantáneas se sirven solo con gzip", Brotli4jLoader.getUnavailabilityCause());
+        }
+    }
+
+    /**
+     * @return The snapshot of the authors list, or {@code null} if it is not built for the current version.
+     */
+    public Encoded autores() {
+        return autores.current(catalogVersion.autoresETag());
+    }
+
+    /**
+     * @return The snapshot of the books list, or {@code null} if it is not built for the current version.
+     */
+    public Encoded libros() {
+        return libros.current(catalogVersion.librosETag());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        scheduleAutores();
+        scheduleLibros();
+    }
+
+    // Runs after CatalogVersion has advanced, so the rebuild reads the new ETag
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.resource() == CatalogChangedEvent.Resource.AUTOR) {
+            scheduleAutores();
+        }
+        // Books embed their author, so both kinds of change affect the books list
+        scheduleLibros();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void scheduleAutores() {
+        schedule(autores, catalogVersion::autoresETag, autorService::readAll, "autores");
+    }
+
+    private void scheduleLibros() {
+        schedule(libros, catalogVersion::librosETag, libroService::readAll, "libros");
+    }
+
+    private void schedule(Slot slot, Supplier<String> etag, Supplier<? extends Collection<?>> reader, String name) {
+        if (!enabled || !slot.pending.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            // Cleared before reading, so a write that commits during the rebuild schedules another one
+            slot.pending.set(false);
+            try {
+                // The ETag is taken before the read: if a write commits in between, the snapshot is simply not served
+                String version = etag.get();
+                Collection<?> rows = reader.get();
+                slot.encoded = encode(version, rows);
+                log.debug("Instantánea de {} reconstruida: {} filas, versión {}", name, rows.size(), version);
+            } catch (RuntimeException | IOException e) {
+                slot.encoded = null;
+                log.error("Error al reconstruir la instantánea de {}", name, e);
+            }
+        });
+    }
+
+    private Encoded encode(String etag, Collection<?> rows) throws IOException {
+        if (rows.isEmpty()) {
+            return new Encoded(etag, null, null, null);
+        }
+        byte[] json = objectMapper.writeValueAsBytes(rows);
+        if (json.length > maxBytes) {
+            log.warn("La instantánea ocupa {} bytes y supera el máximo de {}, se responde sin instantánea", json.length, maxBytes);
+            return null;
+        }
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(json);
+        }
+        byte[] brotli = brotliAvailable ? Encoder.compress(json, new Encoder.Parameters().setQuality(brotliQuality)) : null;
+        return new Encoded(etag, json, gzipped.toByteArray(), brotli);
+    }
+
+    private static final class Slot {
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private volatile Encoded encoded;
+
+        Encoded current(String etag) {
+            Encoded snapshot = encoded;
+            return snapshot != null && snapshot.etag().equals(etag) ? snapshot : null;
+        }
+    }
+
+    /**
+     * A list serialized once, with its compressed variants. {@code json} is {@code null} when the list is empty.
+     */
+    public record Encoded(String etag, byte[] json, byte[] gzip, byte[] brotli) {
+
+        /**
+         * Builds the response with the smallest variant the client accepts; the bytes are written as they are.
+         */
+        public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+            if (json == null) {
+                return ResponseEntity.noContent().eTag(etag).build();
+            }
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .eTag(etag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (brotli != null && accepts(acceptEncoding, "br")) {
+                return builder.header(HttpHeaders.CONTENT_ENCODING, "br").body(brotli);
+            }
+            if (accepts(acceptEncoding, "gzip")) {
+                return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+            }
+            return builder.body(json);
+        }
+
+        private static boolean accepts(String acceptEncoding, String coding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            for (String entry : acceptEncoding.split(",")) {
+                String[] parts = entry.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase(coding)) {
+                    return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.weiz.Biblioteca.infraestructure.cache;
+
+import com.weiz.Biblioteca.infraestructure.events.CatalogChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version of the catalog, advanced after every committed write, used to answer conditional GETs
+ * ({@code If-None-Match}/{@code If-Modified-Since}) without reaching the database.
+ * <p>
+ * The writes of this instance advance it when they commit; the writes of other instances, imports and plain SQL
+ * advance it through the {@code LISTEN/NOTIFY} change feed, which also repeats the local ones (an extra version only
+ * costs a revalidation). With {@code app.change-feed.enabled=false} only the local writes are seen.
+ * <p>
+ * The ETags include the start time of the application, so they change on restart. A book embeds its author,
+ * so the ETags of books also change whenever any author changes.
+ */
+@Component
+public class CatalogVersion {
+
+    // Per-id versions kept before resetting them all at once
+    private static final int MAX_TRACKED_IDS = 100_000;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Versions autores = new Versions();
+    private final Versions libros = new Versions();
+
+    // Runs before the listeners that read the new version
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Versions versions = event.resource() == CatalogChangedEvent.Resource.AUTOR ? autores : libros;
+        versions.changed(event.ids());
+    }
+
+    public String autoresETag() {
+        return "\"%s-a%d\"".formatted(epoch, autores.current());
+    }
+
+    public String autorETag(Integer id) {
+        return "\"%s-a%d.%d\"".formatted(epoch, id, autores.of(id));
+    }
+
+    public String librosETag() {
+        return "\"%s-l%d-a%d\"".formatted(epoch, libros.current(), autores.current());
+    }
+
+    public String libroETag(Integer id) {
+        return "\"%s-l%d.%d-a%d\"".formatted(epoch, id, libros.of(id), autores.current());
+    }
+
+    public long autoresLastModified() {
+        return autores.lastModified();
+    }
+
+    public long librosLastModified() {
+        return Math.max(libros.lastModified(), autores.lastModified());
+    }
+
+    private static final class Versions {
+
+        private final AtomicLong current = new AtomicLong();
+        private final Map<Integer, Long> byId = new ConcurrentHashMap<>();
+        // Version every id is considered to have at least, raised when the per-id versions are reset
+        private volatile long floor;
+        private volatile long lastModified = System.currentTimeMillis();
+
+        synchronized void changed(Collection<Integer> ids) {
+            long version = current.incrementAndGet();
+            if (ids.isEmpty() || byId.size() + ids.size() > MAX_TRACKED_IDS) {
+                floor = version;
+                byId.clear();
+            } else {
+                ids.forEach(id -> byId.put(id, version));
+            }
+            lastModified = System.currentTimeMillis();
+        }
+
+        long current() {
+            return current.get();
+        }
+
+        long of(Integer id) {
+            return Math.max(floor, byId.getOrDefault(id, 0L));
+        }
+
+        long lastModified() {
+            return lastModified;
+        }
+    }
+}
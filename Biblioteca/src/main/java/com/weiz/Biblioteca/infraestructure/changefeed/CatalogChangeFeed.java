@@ -0,0 +1,308 @@
+package com.weiz.Biblioteca.infraestructure.changefeed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weiz.Biblioteca.infraestructure.events.CatalogChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Change feed of the catalog: a single dedicated connection runs {@code LISTEN catalogo_cambios} and every notification
+ * sent by the triggers of {@code libros} and {@code autor} is pushed to all the Server-Sent Events subscribers.
+ * <p>
+ * Each change gets a sequence number, sent as the SSE id, and the last ones are kept in memory so a client that
+ * reconnects with {@code Last-Event-ID} receives what it missed. When that is not possible (the id is older than the
+ * buffer, belongs to a previous run, or the connection was lost) the client receives a {@code reinicio} event and
+ * must reload the catalog.
+ * <p>
+ * Every subscriber is written from its own virtual thread, so a slow client never delays the others; a client that
+ * falls too far behind is disconnected and resumes from its last id.
+ * <p>
+ * Each notification is also published in this application as a {@link CatalogChangedEvent}, so the catalog version,
+ * the caches and the snapshots follow the writes of other instances, of imports and of plain SQL too. After a
+ * reconnection every row is considered changed.
+ */
+@Component
+@ConditionalOnProperty(name = "app.change-feed.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CatalogChangeFeed {
+
+    static final String CHANNEL = "catalogo_cambios";
+    static final String EVENT_CAMBIO = "cambio";
+    static final String EVENT_REINICIO = "reinicio";
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 30_000;
+    // A half-open connection never fails a LISTEN that only waits: every idle heartbeat probes it with a query, and
+    // the socket timeout turns an unanswered probe into the SQLException of the reconnect path
+    private static final String PROBE_SQL = "SELECT 1";
+    private static final int PROBE_TIMEOUT_SECONDS = 10;
+    // Marker queued to every subscriber to send an SSE comment that keeps idle connections open
+    private static final Change HEARTBEAT = new Change(-1, null, null);
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int bufferSize;
+    private final int maxPending;
+    private final long timeoutMillis;
+    private final int heartbeatMillis;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Part of every id, so an id from a previous run is never taken as a position of this one
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<Change> buffer = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private long sequence;
+    private volatile boolean running = true;
+    private Thread listener;
+
+    public CatalogChangeFeed(@Value("${spring.datasource.url}") String url,
+                             @Value("${spring.datasource.username}") String username,
+                             @Value("${spring.datasource.password}") String password,
+                             @Value("${app.change-feed.buffer-size:10000}") int bufferSize,
+                             @Value("${app.change-feed.max-pending:1000}") int maxPending,
+                             @Value("${app.change-feed.timeout:30m}") Duration timeout,
+                             @Value("${app.change-feed.heartbeat:15s}") Duration heartbeat,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventPublisher) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.bufferSize = bufferSize;
+        this.maxPending = maxPending;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeatMillis = (int) heartbeat.toMillis();
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        listener = Thread.ofPlatform().name("catalog-change-feed").daemon().start(this::listen);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    /**
+     * Registers a new subscriber.
+     *
+     * @param lastEventId The id of the last change the client received, null to receive only new changes.
+     * @return The emitter of the SSE stream.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis));
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(subscriber.emitter::complete);
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+        // Replay and registration happen under the same lock as publish, so no change is lost or sent twice
+        synchronized (this) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                long after = resumePosition(lastEventId);
+                long oldest = buffer.isEmpty() ? sequence + 1 : buffer.peekFirst().sequence();
+                if (after < 0 || after > sequence || after < oldest - 1) {
+                    subscriber.offer(new Change(sequence, EVENT_REINICIO, "{}"));
+                } else {
+                    buffer.stream().filter(change -> change.sequence() > after).forEach(subscriber::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        return subscriber.emitter;
+    }
+
+    private void listen() {
+        long reconnectDelay = 1000;
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, connectionProperties())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                if (connectedBefore) {
+                    // Notifications sent while disconnected are lost
+                    publish(EVENT_REINICIO, "{}");
+                    publishCatalogChanged(CatalogChangedEvent.autores(List.of()));
+                    publishCatalogChanged(CatalogChangedEvent.libros(List.of()));
+                }
+                connectedBefore = true;
+                reconnectDelay = 1000;
+                log.info("Escuchando los cambios del catálogo en el canal {}", CHANNEL);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(heartbeatMillis);
+                    if (notifications == null || notifications.length == 0) {
+                        probe(connection);
+                        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        publish(EVENT_CAMBIO, notification.getParameter());
+                        publishCatalogChanged(toEvent(notification.getParameter()));
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Se perdió la conexión de cambios del catálogo, reintentando en {} ms", reconnectDelay, e);
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private Properties connectionProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("tcpKeepAlive", "true");
+        // getNotifications sets its own timeout while it waits, this one applies to the probe
+        properties.setProperty("socketTimeout", Integer.toString(PROBE_TIMEOUT_SECONDS));
+        return properties;
+    }
+
+    // Notifications that arrive during the probe are kept by the driver and returned by the next getNotifications
+    private static void probe(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(PROBE_SQL);
+        }
+    }
+
+    /**
+     * Maps the payload sent by fn_notify_catalogo; without "filas" (bulk changes) every row is considered changed.
+     */
+    private CatalogChangedEvent toEvent(String payload) {
+        try {
+            JsonNode root = objectMapper.readTree(payload);
+            List<Integer> ids = new ArrayList<>();
+            root.path("filas").forEach(fila -> ids.add(fila.path("id").asInt()));
+            return "libro".equals(root.path("recurso").asText())
+                    ? CatalogChangedEvent.libros(ids)
+                    : CatalogChangedEvent.autores(ids);
+        } catch (JsonProcessingException e) {
+            log.warn("Notificación de cambios no reconocida: {}", payload, e);
+            return CatalogChangedEvent.libros(List.of());
+        }
+    }
+
+    // A failing listener must not stop the LISTEN loop
+    private void publishCatalogChanged(CatalogChangedEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.error("Error al publicar el cambio del catálogo {}", event, e);
+        }
+    }
+
+    private synchronized void publish(String event, String data) {
+        Change change = new Change(++sequence, event, data);
+        if (buffer.size() == bufferSize) {
+            buffer.pollFirst();
+        }
+        buffer.addLast(change);
+        subscribers.forEach(subscriber -> subscriber.offer(change));
+    }
+
+    /**
+     * @return The sequence after which the client resumes, or -1 if the id does not belong to this run.
+     */
+    private long resumePosition(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('.');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record Change(long sequence, String event, String data) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Change> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Change change) {
+            if (pendingCount.incrementAndGet() > maxPending) {
+                // The client reconnects with its last id and gets the rest from the buffer
+                subscribers.remove(this);
+                emitter.complete();
+                return;
+            }
+            pending.add(change);
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Change change;
+                while ((change = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    try {
+                        emitter.send(change == HEARTBEAT
+                                ? SseEmitter.event().comment("")
+                                : SseEmitter.event().id(epoch + "." + change.sequence()).name(change.event()).data(change.data()));
+                    } catch (IOException | IllegalStateException e) {
+                        // The client is gone; the emitter reports the error and onError removes it
+                        subscribers.remove(this);
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.weiz.Biblioteca.infraestructure.datasource;
+
+import com.weiz.Biblioteca.infraestructure.events.CatalogChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Keeps reads on the primary for {@code app.datasource.replica.max-lag} after every committed write.
+ * <p>
+ * The caches, the ETags and the snapshots are refreshed right after a write; if they were reloaded from a replica that
+ * has not replayed the write yet, the old rows would be kept and served as current. Pinning the primary for the
+ * expected replication lag makes those reloads, and any read of a client that just wrote, see their own writes.
+ * <p>
+ * The events of the change feed pin it too, so the writes of other instances are covered as soon as their
+ * notification arrives; reads that reached a replica before that are dropped by {@link
+ * com.weiz.Biblioteca.infraestructure.cache.CatalogCache} instead of being cached.
+ */
+@Component
+public class ReplicaLagGuard {
+
+    private final long maxLagNanos;
+    private volatile long primaryUntil = System.nanoTime();
+
+    public ReplicaLagGuard(@Value("${app.datasource.replica.max-lag:5s}") Duration maxLag) {
+        this.maxLagNanos = maxLag.toNanos();
+    }
+
+    // Runs before the listeners that reload the caches and snapshots
+    @Order(-1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        primaryUntil = System.nanoTime() + maxLagNanos;
+    }
+
+    public boolean isPrimaryPinned() {
+        return System.nanoTime() - primaryUntil < 0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.weiz.Biblioteca.infraestructure.events;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published by the services after every write to authors or books.
+ *
+ * @param resource The kind of rows that changed.
+ * @param ids      The changed ids; empty when they are not known (e.g. a bulk import), meaning any row may have changed.
+ */
+public record CatalogChangedEvent(Resource resource, Set<Integer> ids) {
+
+    public enum Resource {
+        AUTOR,
+        LIBRO
+    }
+
+    public static CatalogChangedEvent autores(Collection<Integer> ids) {
+        return new CatalogChangedEvent(Resource.AUTOR, Set.copyOf(ids));
+    }
+
+    public static CatalogChangedEvent libros(Collection<Integer> ids) {
+        return new CatalogChangedEvent(Resource.LIBRO, Set.copyOf(ids));
+    }
+
+    public boolean allIds() {
+        return ids.isEmpty();
+    }
+}
@@ -0,0 +1,20 @@
+package com.weiz.Biblioteca.infraestructure.metrics;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final int MAX_ERROR_TAG_VALUES = 50;
+
+    /**
+     * The error tag only takes SQLSTATE codes and exception class names; this cap is a safety net against
+     * an unexpected source of values blowing up the number of time series.
+     */
+    @Bean
+    public MeterFilter routineErrorTagLimit() {
+        return MeterFilter.maximumAllowableTags(RoutineMetrics.METRIC_NAME, RoutineMetrics.ERROR_TAG, MAX_ERROR_TAG_VALUES, MeterFilter.deny());
+    }
+}
@@ -0,0 +1,67 @@
+package com.weiz.Biblioteca.infraestructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.weiz.Biblioteca.util.SqlStates;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Times the calls to stored procedures and functions as {@code biblioteca.db.routine}, tagged by routine, outcome
+ * and a bounded error code: the SQLSTATE of the database error, or the exception class when there is none.
+ * Messages are never used as tag values, since they may carry ids and key values.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutineMetrics {
+
+    public static final String METRIC_NAME = "biblioteca.db.routine";
+    public static final String ERROR_TAG = "error";
+
+    private static final String NO_ERROR = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Runs a call to a database routine and records its duration.
+     *
+     * @param routine The name of the stored procedure or function, used as the {@code routine} tag.
+     * @param call    The call, including the mapping of database errors to the exceptions of the service.
+     * @return The result of the call.
+     */
+    public <T> T record(String routine, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            T result = call.get();
+            stop(sample, routine, "success", NO_ERROR);
+            return result;
+        } catch (RuntimeException e) {
+            stop(sample, routine, "error", errorCode(e));
+            throw e;
+        }
+    }
+
+    public void record(String routine, Runnable call) {
+        record(routine, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private static String errorCode(RuntimeException e) {
+        String sqlState = SqlStates.of(e);
+        return sqlState != null ? sqlState : e.getClass().getSimpleName();
+    }
+
+    private void stop(Timer.Sample sample, String routine, String outcome, String error) {
+        sample.stop(Timer.builder(METRIC_NAME)
+                .description("Duration of the calls to stored procedures and functions")
+                .tag("routine", routine)
+                .tag("outcome", outcome)
+                .tag(ERROR_TAG, error)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
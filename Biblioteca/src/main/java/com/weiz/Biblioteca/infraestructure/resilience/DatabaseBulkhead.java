@@ -0,0 +1,121 @@
+package com.weiz.Biblioteca.infraestructure.resilience;
+
+import com.weiz.Biblioteca.util.Exceptions.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits how many callers can run database work at the same time.
+ * Callers beyond {@code max-concurrent} wait up to {@code max-wait}; once {@code max-queue} callers are already
+ * waiting, new ones are rejected right away with a {@link BulkheadFullException} instead of piling up behind the
+ * connection pool. It is disabled unless {@code app.db.bulkhead.enabled} is set.
+ */
+@Component
+@Slf4j
+public class DatabaseBulkhead {
+
+    @Getter
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final Duration maxWait;
+    private final Duration retryAfter;
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ThreadLocal<Integer> depth = ThreadLocal.withInitial(() -> 0);
+
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public DatabaseBulkhead(MeterRegistry meterRegistry,
+                            @Value("${app.db.bulkhead.enabled:false}") boolean enabled,
+                            @Value("${app.db.bulkhead.max-concurrent:5}") int maxConcurrent,
+                            @Value("${app.db.bulkhead.max-queue:50}") int maxQueue,
+                            @Value("${app.db.bulkhead.max-wait:10s}") Duration maxWait,
+                            @Value("${app.db.bulkhead.retry-after:2s}") Duration retryAfter) {
+        this.enabled = enabled;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWait = maxWait;
+        this.retryAfter = retryAfter;
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        Gauge.builder("biblioteca.db.bulkhead.queue", waiting, AtomicInteger::get)
+                .description("Callers waiting for a database permit")
+                .register(meterRegistry);
+        Gauge.builder("biblioteca.db.bulkhead.active", permits, p -> this.maxConcurrent - p.availablePermits())
+                .description("Callers currently running database work")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("biblioteca.db.bulkhead.wait")
+                .description("Time spent waiting for a database permit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("biblioteca.db.bulkhead.rejected")
+                .description("Callers rejected because the wait queue was full or the wait timed out")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Acquires a permit for the current thread. Nested calls from the same thread reuse the permit already held.
+     *
+     * @throws BulkheadFullException If the wait queue is full or no permit was released within the max wait.
+     */
+    public void acquire() {
+        int current = depth.get();
+        if (current > 0) {
+            depth.set(current + 1);
+            return;
+        }
+        if (permits.tryAcquire()) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            depth.set(1);
+            return;
+        }
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            reject("cola llena");
+        }
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            reject("tiempo de espera agotado");
+        }
+        depth.set(1);
+    }
+
+    public void release() {
+        int current = depth.get();
+        if (current > 1) {
+            depth.set(current - 1);
+            return;
+        }
+        depth.remove();
+        permits.release();
+    }
+
+    private void reject(String reason) {
+        rejected.increment();
+        log.warn("Solicitud rechazada por el bulkhead de base de datos: {}", reason);
+        throw new BulkheadFullException(Math.max(1, retryAfter.toSeconds()));
+    }
+}
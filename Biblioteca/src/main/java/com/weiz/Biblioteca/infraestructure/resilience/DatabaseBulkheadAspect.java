@@ -0,0 +1,35 @@
+package com.weiz.Biblioteca.infraestructure.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Puts the {@link DatabaseBulkhead} in front of every public service method.
+ * It runs before the transaction interceptor, so a caller only takes a pooled connection once it holds a permit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DatabaseBulkheadAspect {
+
+    private final DatabaseBulkhead bulkhead;
+
+    @Around("execution(public * com.weiz.Biblioteca.infraestructure.services.*.*(..))")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!bulkhead.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        bulkhead.acquire();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
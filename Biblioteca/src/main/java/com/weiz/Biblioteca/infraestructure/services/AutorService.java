@@ -2,25 +2,57 @@ package com.weiz.Biblioteca.infraestructure.services;
 
 import com.weiz.Biblioteca.api.requests.AutorRequest;
 import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.BatchItemResponse;
+import com.weiz.Biblioteca.api.responses.BatchResponse;
+import com.weiz.Biblioteca.api.responses.ImportResponse;
+import com.weiz.Biblioteca.api.responses.MultiGetResponse;
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import com.weiz.Biblioteca.api.responses.RejectedRowResponse;
 import com.weiz.Biblioteca.domain.entities.AutorEntity;
 import com.weiz.Biblioteca.domain.repositories.AutorRepository;
+import com.weiz.Biblioteca.infraestructure.cache.CatalogCache;
+import com.weiz.Biblioteca.infraestructure.events.CatalogChangedEvent;
+import com.weiz.Biblioteca.infraestructure.metrics.RoutineMetrics;
 import com.weiz.Biblioteca.infraestructure.services.imp.IAutorService;
+import com.weiz.Biblioteca.util.BatchResults;
 import com.weiz.Biblioteca.util.Exceptions.CustomException;
 import com.weiz.Biblioteca.util.Exceptions.IdNotFoundException;
-import jakarta.transaction.Transactional;
+import com.weiz.Biblioteca.util.FieldSet;
+import com.weiz.Biblioteca.util.MultiGet;
+import com.weiz.Biblioteca.util.Pagination;
+import com.weiz.Biblioteca.util.SqlStates;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
-import java.sql.Types;
-import java.util.HashSet;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,10 +63,61 @@ public class AutorService implements IAutorService {
     private static final String ERROR_UPDATING_AUTOR_MESSAGE = "Error al actualizar autor";
     private static final String ERROR_DELETING_AUTOR_MESSAGE = "Error al eliminar autor";
     private static final String ERROR_FETCHING_AUTORES_MESSAGE = "Error al obtener la lista de autores";
+    private static final String ERROR_IMPORTING_AUTORES_MESSAGE = "Error al importar autores";
+    private static final String ERROR_BATCH_AUTORES_MESSAGE = "Error al procesar el lote de autores";
+    private static final String ERROR_AUTOR_WITH_LIBROS_MESSAGE = "El autor tiene libros asociados";
+    private static final String BATCH_INSERT_SQL = "INSERT INTO autor (nombre, apellido, nacionalidad) VALUES (?, ?, ?)";
+    private static final String READ_BY_IDS_SQL = "SELECT autor_id, nombre, apellido, nacionalidad FROM autor WHERE autor_id = ANY(?)";
+
+    private static final int MAX_REJECTED_ROWS_REPORTED = 1000;
+    private static final String IMPORT_CREATE_STAGING_SQL = "CREATE TEMP TABLE autor_import (fila BIGSERIAL, nombre TEXT, apellido TEXT, nacionalidad TEXT, motivo TEXT) ON COMMIT DROP";
+    private static final String IMPORT_COPY_SQL = "COPY autor_import (nombre, apellido, nacionalidad) FROM STDIN WITH (FORMAT csv, HEADER true)";
+    // Same rules as uspAutorInsert, plus the column lengths so one long value does not abort the whole import
+    private static final String IMPORT_REJECT_SQL = """
+            UPDATE autor_import SET motivo = CASE
+                WHEN nombre IS NULL OR TRIM(nombre) = '' THEN 'El nombre es requerido'
+                WHEN apellido IS NULL OR TRIM(apellido) = '' THEN 'El apellido es requerido'
+                WHEN LENGTH(nombre) > 255 THEN 'El nombre no puede exceder los 255 caracteres'
+                WHEN LENGTH(apellido) > 255 THEN 'El apellido no puede exceder los 255 caracteres'
+                ELSE 'La nacionalidad no puede exceder los 100 caracteres'
+            END
+            WHERE nombre IS NULL OR TRIM(nombre) = ''
+               OR apellido IS NULL OR TRIM(apellido) = ''
+               OR LENGTH(nombre) > 255 OR LENGTH(apellido) > 255 OR LENGTH(nacionalidad) > 100
+            """;
+    private static final String IMPORT_MERGE_SQL = "INSERT INTO autor (nombre, apellido, nacionalidad) SELECT nombre, apellido, nacionalidad FROM autor_import WHERE motivo IS NULL ORDER BY fila";
+    private static final String IMPORT_REJECTED_ROWS_SQL = "SELECT fila, motivo FROM autor_import WHERE motivo IS NOT NULL ORDER BY fila LIMIT ?";
+
+    public static final RowMapper<AutorResponse> AUTOR_ROW_MAPPER = (rs, rowNum) -> AutorResponse.builder()
+            .id(rs.getInt("autor_id"))
+            .nombre(rs.getString("nombre"))
+            .apellido(rs.getString("apellido"))
+            .nacionalidad(rs.getString("nacionalidad"))
+            .build();
+
+    // Fields that can be requested with fields=, the id first
+    public static final List<FieldSet.Field<AutorResponse>> FIELDS = List.of(
+            new FieldSet.Field<>("id", "autor_id", AutorResponse::getId),
+            new FieldSet.Field<>("nombre", "nombre", AutorResponse::getNombre),
+            new FieldSet.Field<>("apellido", "apellido", AutorResponse::getApellido),
+            new FieldSet.Field<>("nacionalidad", "nacionalidad", AutorResponse::getNacionalidad)
+    );
+
+    // Maps the OUT parameters returned by the CALL of the write procedures
+    private static final RowMapper<AutorResponse> PROCEDURE_ROW_MAPPER = (rs, rowNum) -> AutorResponse.builder()
+            .id((Integer) rs.getObject("o_autor_id"))
+            .nombre(rs.getString("o_nombre"))
+            .apellido(rs.getString("o_apellido"))
+            .nacionalidad(rs.getString("o_nacionalidad"))
+            .build();
 
     private final AutorRepository autorRepository;
     private final JdbcTemplate jdbcTemplate;
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final CatalogCache catalogCache;
+    private final RoutineMetrics routineMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     private String extractErrorMessage(DataAccessException e, String defaultMessage) {
         String message = e.getMostSpecificCause() != null && e.getMostSpecificCause().getMessage() != null
@@ -48,13 +131,25 @@ public class AutorService implements IAutorService {
         };
     }
 
+    // The procedures raise a SQLSTATE for each expected failure, the message text is only used for the rest
+    private RuntimeException toException(DataAccessException e, String defaultMessage) {
+        if (SqlStates.matches(e, SqlStates.NO_DATA_FOUND)) {
+            return new IdNotFoundException("Autor");
+        }
+        if (SqlStates.matches(e, SqlStates.FOREIGN_KEY_VIOLATION)) {
+            return new CustomException(ERROR_AUTOR_WITH_LIBROS_MESSAGE, e);
+        }
+        return new CustomException(extractErrorMessage(e, defaultMessage), e);
+    }
+
     private void printExecutingProcedure(String procedureName, Map<String, Object> params) {
-        log.info("Ejecutando {} con parámetros {}", procedureName, params);
+        log.debug("Ejecutando {} con parámetros {}", procedureName, params);
     }
 
     /**
      * Executes a stored procedure for managing author records in the database.
-     * The stored procedure can either insert a new author or update an existing one.
+     * The stored procedure can either insert a new author or update an existing one, and returns the persisted row
+     * in its OUT parameters, so the response is built without reading the author again.
      *
      * @param procedureName       The name of the stored procedure to execute.
      * @param params              A map of parameters to pass to the stored procedure.
@@ -64,67 +159,99 @@ public class AutorService implements IAutorService {
      * @throws IllegalStateException If the procedure name is unsupported or no ID is generated.
      */
     private AutorResponse executeStoredProcedure(String procedureName, Map<String, Object> params, String defaultErrorMessage) {
-        try {
-            // Use a switch expression to determine how to handle each stored procedure
-            Integer id = switch (procedureName) {
-                case "uspAutorInsert" -> {
-                    // Configure parameters for uspAutorInsert with OUT parameter
-                    MapSqlParameterSource parameters = new MapSqlParameterSource(params)
-                            .addValue("new_id", null, Types.INTEGER); // OUT parameter to capture new ID
-                    String sql = "CALL %s(:p_nombre, :p_apellido, :p_nacionalidad, :new_id)".formatted(procedureName);
-                    printExecutingProcedure(procedureName, params);
-                    // Execute the query and retrieve the new ID
-                    yield (Integer) namedParameterJdbcTemplate.queryForMap(sql, parameters).get("new_id");
+        return routineMetrics.record(procedureName, () -> {
+            try {
+                // Use a switch expression to determine the CALL of each stored procedure.
+                // OUT parameters are passed as NULL and come back as a single row with the persisted author.
+                String sql = switch (procedureName) {
+                    case "uspAutorInsert" ->
+                            "CALL %s(:p_nombre, :p_apellido, :p_nacionalidad, NULL, NULL, NULL, NULL)".formatted(procedureName);
+                    case "uspAutorUpdate" ->
+                            "CALL %s(:p_autor_id, :p_nombre, :p_apellido, :p_nacionalidad, NULL, NULL, NULL, NULL)".formatted(procedureName);
+                    default ->
+                        throw new IllegalStateException("Procedimiento almacenado no soportado {}".formatted(procedureName));
+                };
+                printExecutingProcedure(procedureName, params);
+                AutorResponse response = namedParameterJdbcTemplate.queryForObject(sql, new MapSqlParameterSource(params), PROCEDURE_ROW_MAPPER);
+                // Validate the returned row
+                if (response == null || response.getId() == null) {
+                    throw new IllegalStateException("No se recibió un ID generado desde {}".formatted(procedureName));
                 }
-                case "uspAutorUpdate" -> {
-                    // Configure parameters for uspAutorUpdate
-                    MapSqlParameterSource parameters = new MapSqlParameterSource(params);
-                    String sql = "CALL %s(:p_autor_id, :p_nombre, :p_apellido, :p_nacionalidad)".formatted(procedureName);
-                    printExecutingProcedure(procedureName, params);
-                    // Execute the update operation
-                    namedParameterJdbcTemplate.update(sql, parameters);
-                    // Retrieve the ID from the parameters
-                    yield (Integer) parameters.getValue("p_autor_id");
-                }
-                default ->
-                    throw new IllegalStateException("Procedimiento almacenado no soportado {}".formatted(procedureName));
-            };
-            // Validate the retrieved ID
-            if (id == null) {
-                throw new IllegalStateException("No se recibió un ID generado desde {}".formatted(procedureName));
+                return response;
+            } catch (DataAccessException e) {
+                log.error("Error al ejecutar SP {}", procedureName, e);
+                // Map the SQLSTATE or the error message to the exception of the service
+                throw toException(e, defaultErrorMessage);
             }
-            // Retrieve and return the AutorResponse using the ID
-            return autorRepository.findById(id)
-                    .map(AutorService::entityToResponse)
-                    .orElseThrow(() -> new IdNotFoundException("Autor"));
-        } catch (DataAccessException e) {
-            log.error("Error al ejecutar SP {}", procedureName, e);
-            // Extract and throw a custom exception with the error message
-            throw new CustomException(extractErrorMessage(e, defaultErrorMessage));
-        }
+        });
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<AutorResponse> readAll() {
-        try {
-            return new HashSet<>(jdbcTemplate.query("Select * from fn_get_autores()",
-                    (rs, rowNum) -> AutorResponse.builder()
-                            .id(rs.getInt("autor_id"))
-                            .nombre(rs.getString("nombre"))
-                            .apellido(rs.getString("apellido"))
-                            .nacionalidad(rs.getString("nacionalidad"))
-                            .build()
-            ));
-        } catch (DataAccessException e) {
-            log.error("Error al obtener autores", e);
-            throw new CustomException(ERROR_FETCHING_AUTORES_MESSAGE, e);
-        }
+        return routineMetrics.record("fn_get_autores", () -> {
+            try {
+                return new LinkedHashSet<>(jdbcTemplate.query("Select * from fn_get_autores() ORDER BY autor_id", AUTOR_ROW_MAPPER));
+            } catch (DataAccessException e) {
+                log.error("Error al obtener autores", e);
+                throw new CustomException(ERROR_FETCHING_AUTORES_MESSAGE, e);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<AutorResponse> readPage(String cursor, Integer limit) {
+        int afterId = Pagination.decodeCursor(cursor);
+        int pageSize = Pagination.resolveLimit(limit);
+        return routineMetrics.record("fn_get_autores_page", () -> {
+            try {
+                // Fetch one extra row to know whether there is a next page
+                var rows = jdbcTemplate.query("SELECT * FROM fn_get_autores_page(?, ?)", AUTOR_ROW_MAPPER, afterId, pageSize + 1);
+                return Pagination.toPage(rows, pageSize, AutorResponse::getId);
+            } catch (DataAccessException e) {
+                log.error("Error al obtener página de autores", e);
+                throw new CustomException(ERROR_FETCHING_AUTORES_MESSAGE, e);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> readAll(String fields) {
+        FieldSet<AutorResponse> fieldSet = FieldSet.parse(fields, FIELDS);
+        return routineMetrics.record("fn_get_autores", () -> {
+            try {
+                return jdbcTemplate.query("SELECT %s FROM fn_get_autores() ORDER BY autor_id".formatted(fieldSet.columns()), fieldSet.rowMapper());
+            } catch (DataAccessException e) {
+                log.error("Error al obtener autores", e);
+                throw new CustomException(ERROR_FETCHING_AUTORES_MESSAGE, e);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> readPage(String cursor, Integer limit, String fields) {
+        FieldSet<AutorResponse> fieldSet = FieldSet.parse(fields, FIELDS);
+        int afterId = Pagination.decodeCursor(cursor);
+        int pageSize = Pagination.resolveLimit(limit);
+        return routineMetrics.record("fn_get_autores_page", () -> {
+            try {
+                // Fetch one extra row to know whether there is a next page
+                var rows = jdbcTemplate.query("SELECT %s FROM fn_get_autores_page(?, ?)".formatted(fieldSet.columns()), fieldSet.rowMapper(), afterId, pageSize + 1);
+                return Pagination.toPage(rows, pageSize, row -> (Integer) row.get("id"));
+            } catch (DataAccessException e) {
+                log.error("Error al obtener página de autores", e);
+                throw new CustomException(ERROR_FETCHING_AUTORES_MESSAGE, e);
+            }
+        });
     }
 
     @Override
     @Transactional
     public AutorResponse create(AutorRequest request) {
-        return executeStoredProcedure(
+        AutorResponse response = executeStoredProcedure(
                 "uspAutorInsert",
                 Map.of(
                         "p_nombre", request.getNombre(),
@@ -133,20 +260,48 @@ public class AutorService implements IAutorService {
                 ),
                 ERROR_CREATING_AUTOR_MESSAGE
         );
+        eventPublisher.publishEvent(CatalogChangedEvent.autores(List.of(response.getId())));
+        return response;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AutorResponse readById(Integer id) {
-        return autorRepository.findById(id)
+        return catalogCache.getAutor(id, key -> autorRepository.findById(key)
                 .map(AutorService::entityToResponse)
-                .orElseThrow(() -> new IdNotFoundException("Autor"));
+                .orElseThrow(() -> new IdNotFoundException("Autor")));
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponse<AutorResponse> readByIds(List<Integer> ids) {
+        Set<Integer> distinctIds = MultiGet.distinctIds(ids);
+        // Cached authors are served from memory, the misses are resolved together with one query on the primary key
+        Map<Integer, AutorResponse> found = catalogCache.getAutores(distinctIds, misses -> {
+            try {
+                return jdbcTemplate.query(READ_BY_IDS_SQL, AUTOR_ROW_MAPPER, (Object) misses.toArray(Integer[]::new)).stream()
+                        .collect(Collectors.toMap(AutorResponse::getId, Function.identity()));
+            } catch (DataAccessException e) {
+                log.error("Error al obtener los autores {}", misses, e);
+                throw new CustomException(ERROR_FETCHING_AUTORES_MESSAGE, e);
+            }
+        });
+        return MultiGet.toResponse(distinctIds, found);
+    }
+
+    // Projected from the cached author, a hit does not reach the database
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> readById(Integer id, String fields) {
+        FieldSet<AutorResponse> fieldSet = FieldSet.parse(fields, FIELDS);
+        return fieldSet.project(readById(id));
     }
 
     @Override
     @Transactional
     public AutorResponse update(AutorRequest request, Integer id) throws InvocationTargetException, IllegalAccessException {
-        return executeStoredProcedure(
+        catalogCache.evictAutor(id);
+        AutorResponse response = executeStoredProcedure(
                 "uspAutorUpdate",
                 Map.of(
                         "p_autor_id", id,
@@ -156,17 +311,125 @@ public class AutorService implements IAutorService {
                 ),
                 ERROR_UPDATING_AUTOR_MESSAGE
         );
+        eventPublisher.publishEvent(CatalogChangedEvent.autores(List.of(id)));
+        return response;
     }
 
     @Override
     @Transactional
     public void delete(Integer id) {
+        routineMetrics.record("uspAutorDelete", () -> {
+            try {
+                jdbcTemplate.update("CALL uspAutorDelete(?)", id);
+                catalogCache.evictAutor(id);
+                eventPublisher.publishEvent(CatalogChangedEvent.autores(List.of(id)));
+            } catch (DataAccessException e) {
+                log.error("Error al ejecutar SP uspAutorDelete", e);
+                throw toException(e, ERROR_DELETING_AUTOR_MESSAGE);
+            }
+        });
+    }
+
+    /**
+     * Loads the CSV with the PostgreSQL COPY protocol into a temporary staging table, rejects the invalid rows with a
+     * single UPDATE and merges the valid ones into {@code autor} with a single INSERT ... SELECT.
+     * The staging table is dropped when the transaction commits.
+     */
+    @Override
+    @Transactional
+    public ImportResponse importCsv(InputStream inputStream) {
         try {
-            jdbcTemplate.update("CALL uspAutorDelete(?)", id);
+            jdbcTemplate.execute(IMPORT_CREATE_STAGING_SQL);
+            Long total = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                try {
+                    return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(IMPORT_COPY_SQL, inputStream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            long rejected = jdbcTemplate.update(IMPORT_REJECT_SQL);
+            long inserted = jdbcTemplate.update(IMPORT_MERGE_SQL);
+            List<RejectedRowResponse> rejectedRows = jdbcTemplate.query(IMPORT_REJECTED_ROWS_SQL,
+                    (rs, rowNum) -> RejectedRowResponse.builder()
+                            .row(rs.getLong("fila"))
+                            .message(rs.getString("motivo"))
+                            .build(),
+                    MAX_REJECTED_ROWS_REPORTED);
+            log.info("Importación de autores: {} filas, {} insertadas, {} rechazadas", total, inserted, rejected);
+            if (inserted > 0) {
+                // The generated ids are not read back, so the whole list is considered changed
+                eventPublisher.publishEvent(CatalogChangedEvent.autores(List.of()));
+            }
+            return ImportResponse.builder()
+                    .total(total)
+                    .inserted(inserted)
+                    .rejected(rejected)
+                    .rejectedRows(rejectedRows)
+                    .build();
+        } catch (UncheckedIOException e) {
+            log.error("Error al leer el archivo de autores", e);
+            throw new CustomException(ERROR_IMPORTING_AUTORES_MESSAGE, e);
         } catch (DataAccessException e) {
-            log.error("Error al ejecutar SP uspAutorDelete", e);
-            throw new CustomException(extractErrorMessage(e, ERROR_DELETING_AUTOR_MESSAGE));
+            log.error("Error al importar autores", e);
+            String cause = e.getMostSpecificCause().getMessage();
+            throw new CustomException(cause != null ? "%s: %s".formatted(ERROR_IMPORTING_AUTORES_MESSAGE, cause) : ERROR_IMPORTING_AUTORES_MESSAGE, e);
+        }
+    }
+
+    /**
+     * Creates the valid authors with a single JDBC batch and builds each response from the request and the generated id.
+     * The rules of uspAutorInsert are covered by the bean validation of each item.
+     */
+    @Override
+    @Transactional
+    public BatchResponse<AutorResponse> createBatch(List<AutorRequest> requests) {
+        BatchResults.validateSize(requests);
+        List<BatchItemResponse<AutorResponse>> results = new ArrayList<>(Collections.<BatchItemResponse<AutorResponse>>nCopies(requests.size(), null));
+        List<Integer> toInsert = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Map<String, String> errors = BatchResults.violations(validator, requests.get(i));
+            if (errors.isEmpty()) {
+                toInsert.add(i);
+            } else {
+                results.set(i, BatchResults.failure(i, HttpStatus.BAD_REQUEST, errors));
+            }
+        }
+
+        if (!toInsert.isEmpty()) {
+            try {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(BATCH_INSERT_SQL, new String[]{"autor_id"}), new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        AutorRequest request = requests.get(toInsert.get(i));
+                        ps.setString(1, request.getNombre());
+                        ps.setString(2, request.getApellido());
+                        ps.setString(3, request.getNacionalidad());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return toInsert.size();
+                    }
+                }, keyHolder);
+                List<Integer> ids = keyHolder.getKeyList().stream().map(key -> ((Number) key.get("autor_id")).intValue()).toList();
+                for (int i = 0; i < toInsert.size(); i++) {
+                    int index = toInsert.get(i);
+                    AutorRequest request = requests.get(index);
+                    results.set(index, BatchResults.success(index, HttpStatus.CREATED, AutorResponse.builder()
+                            .id(ids.get(i))
+                            .nombre(request.getNombre())
+                            .apellido(request.getApellido())
+                            .nacionalidad(request.getNacionalidad())
+                            .build()));
+                }
+                eventPublisher.publishEvent(CatalogChangedEvent.autores(ids));
+            } catch (DataAccessException e) {
+                log.error("Error al insertar el lote de autores", e);
+                throw new CustomException(extractErrorMessage(e, ERROR_BATCH_AUTORES_MESSAGE));
+            }
         }
+        return BatchResults.summarize(results);
     }
 
     public static AutorResponse entityToResponse(AutorEntity autorEntity) {
@@ -1,27 +1,63 @@
 package com.weiz.Biblioteca.infraestructure.services;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.weiz.Biblioteca.api.requests.LibroBatchUpdateRequest;
 import com.weiz.Biblioteca.api.requests.LibroRequest;
+import com.weiz.Biblioteca.api.responses.AutorLibrosResponse;
+import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.BatchItemResponse;
+import com.weiz.Biblioteca.api.responses.BatchResponse;
 import com.weiz.Biblioteca.api.responses.LibroResponse;
+import com.weiz.Biblioteca.api.responses.LibrosPorDecadaResponse;
+import com.weiz.Biblioteca.api.responses.LibrosPorNacionalidadResponse;
+import com.weiz.Biblioteca.api.responses.MultiGetResponse;
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import com.weiz.Biblioteca.api.responses.TopAutorResponse;
 import com.weiz.Biblioteca.domain.entities.AutorEntity;
 import com.weiz.Biblioteca.domain.entities.LibroEntity;
 import com.weiz.Biblioteca.domain.repositories.AutorRepository;
-import com.weiz.Biblioteca.domain.repositories.LibroRepository;
+import com.weiz.Biblioteca.infraestructure.cache.CatalogCache;
+import com.weiz.Biblioteca.infraestructure.events.CatalogChangedEvent;
+import com.weiz.Biblioteca.infraestructure.metrics.RoutineMetrics;
 import com.weiz.Biblioteca.infraestructure.services.imp.ILIbroService;
 import com.weiz.Biblioteca.util.Exceptions.CustomException;
 import com.weiz.Biblioteca.util.Exceptions.IdNotFoundException;
-import jakarta.transaction.Transactional;
+import com.weiz.Biblioteca.util.BatchResults;
+import com.weiz.Biblioteca.util.ExportFormat;
+import com.weiz.Biblioteca.util.FieldSet;
+import com.weiz.Biblioteca.util.MultiGet;
+import com.weiz.Biblioteca.util.Pagination;
+import com.weiz.Biblioteca.util.SqlStates;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Types;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -32,10 +68,75 @@ public class LibroService implements ILIbroService {
     private static final String ERROR_UPDATING_LIBRO_MESSAGE = "Error al actualizar libro";
     private static final String ERROR_DELETING_LIBRO_MESSAGE = "Error al eliminar libro";
     private static final String ERROR_FETCHING_LIBROS_MESSAGE = "Error al obtener la lista de libros";
+    private static final String ERROR_EXPORTING_LIBROS_MESSAGE = "Error al exportar libros";
+    private static final String ERROR_SEARCHING_LIBROS_MESSAGE = "Error al buscar libros";
+    private static final String ERROR_EMPTY_QUERY_MESSAGE = "El texto de búsqueda es requerido";
+    private static final String ERROR_FETCHING_ESTADISTICAS_MESSAGE = "Error al obtener las estadísticas de libros";
 
-    private final LibroRepository libroRepository;
+    // fn_get_libros is a single-query SQL function over the read model: PostgreSQL inlines it, so filters, ORDER BY
+    // and LIMIT use the indexes of libro_autor_read and the rows are streamed through the cursor
+    private static final String READ_ALL_SQL = "SELECT * FROM fn_get_libros() ORDER BY libro_id";
+    private static final String READ_BY_ID_SQL = "SELECT * FROM fn_get_libros() WHERE libro_id = ?";
+    private static final String READ_BY_IDS_SQL = "SELECT * FROM fn_get_libros() WHERE libro_id = ANY(?)";
+    private static final String READ_BY_AUTOR_SQL = "SELECT * FROM fn_get_libros() WHERE autor_id = ? AND libro_id > ? ORDER BY libro_id LIMIT ?";
+    private static final String COUNT_BY_AUTOR_SQL = "SELECT COUNT(*) FROM fn_get_libros() WHERE autor_id = ?";
+    private static final String EXPORT_CSV_HEADER = "libro_id,titulo,anio_publicacion,autor_id,autor_nombre,autor_apellido,autor_nacionalidad";
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final int EXPORT_FLUSH_ROWS = 500;
+
+    // Maps the OUT parameters returned by the CALL of the write procedures
+    private static final RowMapper<LibroResponse> PROCEDURE_ROW_MAPPER = (rs, rowNum) -> LibroResponse.builder()
+            .id((Integer) rs.getObject("o_libro_id"))
+            .titulo(rs.getString("o_titulo"))
+            .anioPublicacion((Integer) rs.getObject("o_anio_publicacion"))
+            .autor(rs.getObject("o_autor_id") == null ? null : AutorResponse.builder()
+                    .id(rs.getInt("o_autor_id"))
+                    .nombre(rs.getString("o_autor_nombre"))
+                    .apellido(rs.getString("o_autor_apellido"))
+                    .nacionalidad(rs.getString("o_autor_nacionalidad"))
+                    .build())
+            .build();
+
+    private static final String ERROR_BATCH_LIBROS_MESSAGE = "Error al procesar el lote de libros";
+    private static final String AUTOR_NOT_FOUND_MESSAGE = "Autor no encontrado";
+    private static final String LIBRO_NOT_FOUND_MESSAGE = "Libro no encontrado";
+    private static final String AUTORES_BY_IDS_SQL = "SELECT autor_id, nombre, apellido, nacionalidad FROM autor WHERE autor_id = ANY(?)";
+    private static final String BATCH_INSERT_SQL = "INSERT INTO libros (titulo, anio_publicacion, autor_id) VALUES (?, ?, ?)";
+    private static final String BATCH_UPDATE_SQL = "UPDATE libros SET titulo = ?, anio_publicacion = ?, autor_id = ? WHERE libro_id = ?";
+
+    public static final RowMapper<LibroResponse> LIBRO_ROW_MAPPER = (rs, rowNum) -> LibroResponse.builder()
+            .id(rs.getInt("libro_id"))
+            .titulo(rs.getString("titulo"))
+            .anioPublicacion(rs.getInt("anio_publicacion"))
+            .autor(AutorService.entityToResponse(
+                    new AutorEntity(
+                            rs.getInt("autor_id"),
+                            rs.getString("autor_nombre"),
+                            rs.getString("autor_apellido"),
+                            rs.getString("autor_nacionalidad")
+                    )
+            ))
+            .build();
+
+    // Fields that can be requested with fields=, the id first. Author fields are columns of the read model too
+    public static final List<FieldSet.Field<LibroResponse>> FIELDS = List.of(
+            new FieldSet.Field<>("id", "libro_id", LibroResponse::getId),
+            new FieldSet.Field<>("titulo", "titulo", LibroResponse::getTitulo),
+            new FieldSet.Field<>("anioPublicacion", "anio_publicacion", LibroResponse::getAnioPublicacion),
+            new FieldSet.Field<>("autor.id", "autor_id", autor(AutorResponse::getId)),
+            new FieldSet.Field<>("autor.nombre", "autor_nombre", autor(AutorResponse::getNombre)),
+            new FieldSet.Field<>("autor.apellido", "autor_apellido", autor(AutorResponse::getApellido)),
+            new FieldSet.Field<>("autor.nacionalidad", "autor_nacionalidad", autor(AutorResponse::getNacionalidad))
+    );
+
+    private final AutorRepository autorRepository;
     private final JdbcTemplate jdbcTemplate;
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CatalogCache catalogCache;
+    private final RoutineMetrics routineMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     private String extractErrorMessage(DataAccessException e, String defaultMessage) {
@@ -52,14 +153,28 @@ public class LibroService implements ILIbroService {
         };
     }
 
+    // The procedures raise a SQLSTATE for each expected failure, the message text is only used for the rest
+    private RuntimeException toException(DataAccessException e, String defaultMessage) {
+        if (SqlStates.matches(e, SqlStates.NO_DATA_FOUND)) {
+            return new IdNotFoundException("Libro");
+        }
+        if (SqlStates.matches(e, SqlStates.FOREIGN_KEY_VIOLATION)) {
+            return new CustomException(AUTOR_NOT_FOUND_MESSAGE, e);
+        }
+        String errMsg = extractErrorMessage(e, defaultMessage);
+        log.error("errMsg {}", errMsg);
+        return new CustomException(errMsg, e);
+    }
+
     private void printExecutingProcedure(String procedureName, Map<String, Object> params) {
-        log.info("Ejecutando {} con parámetros {}", procedureName, params);
+        log.debug("Ejecutando {} con parámetros {}", procedureName, params);
     }
 
 
     /**
      * Executes a stored procedure for managing book records in the database.
-     * The stored procedure can either insert a new book or update an existing one.
+     * The stored procedure can either insert a new book or update an existing one, and returns the persisted row
+     * together with its author in its OUT parameters, so one round trip is enough to build the response.
      *
      * @param procedureName       The name of the stored procedure to execute.
      * @param params              A map of parameters to pass to the stored procedure.
@@ -69,76 +184,442 @@ public class LibroService implements ILIbroService {
      * @throws IllegalStateException If the procedure name is unsupported or no ID is generated.
      */
     private LibroResponse executeStoredProcedure(String procedureName, Map<String, Object> params, String defaultErrorMessage) {
-        try {
-            // Use a switch expression to determine how to handle each stored procedure
-            Integer id = switch (procedureName) {
-                case "uspLibroInsert" -> {
-                    // Configure parameters for uspLibroInsert with OUT parameter
-                    MapSqlParameterSource parameters = new MapSqlParameterSource(params)
-                            .addValue("new_id", null, Types.INTEGER); // OUT parameter to capture new ID
-                    String sql = "CALL %s(:l_titulo, :l_anio_publicacion, :l_autor_id, :new_id)".formatted(procedureName);
-                    printExecutingProcedure(procedureName, params);
-                    // Execute the query and retrieve the new ID
-                    yield (Integer) namedParameterJdbcTemplate.queryForMap(sql, parameters).get("new_id");
+        return routineMetrics.record(procedureName, () -> {
+            try {
+                // Use a switch expression to determine the CALL of each stored procedure.
+                // OUT parameters are passed as NULL and come back as a single row with the persisted book and its author.
+                String sql = switch (procedureName) {
+                    case "uspLibroInsert" ->
+                            "CALL %s(:l_titulo, :l_anio_publicacion, :l_autor_id, NULL, NULL, NULL, NULL, NULL, NULL, NULL)".formatted(procedureName);
+                    case "uspLibroUpdate" ->
+                            "CALL %s(:l_libro_id, :l_titulo, :l_anio_publicacion, :l_autor_id, NULL, NULL, NULL, NULL, NULL, NULL, NULL)".formatted(procedureName);
+                    default ->
+                            throw new IllegalStateException("Procedimiento almacenado no soportado {}".formatted(procedureName));
+                };
+                printExecutingProcedure(procedureName, params);
+                LibroResponse response = namedParameterJdbcTemplate.queryForObject(sql, new MapSqlParameterSource(params), PROCEDURE_ROW_MAPPER);
+                // Check if the ID is null and throw an exception if so
+                if (response == null || response.getId() == null) {
+                    throw new IllegalStateException("No se recibió un ID generado desde {}".formatted(procedureName));
                 }
-                case "uspLibroUpdate" -> {
-                    // Configure parameters for uspLibroUpdate
-                    MapSqlParameterSource parameters = new MapSqlParameterSource(params);
-                    String sql = "CALL %s(:l_libro_id, :l_titulo, :l_anio_publicacion, :l_autor_id)".formatted(procedureName);
-                    printExecutingProcedure(procedureName, params);
-                    // Execute the update operation
-                    namedParameterJdbcTemplate.update(sql, parameters);
-                    // Retrieve the ID from the parameters
-                    yield (Integer) parameters.getValue("l_libro_id");
-                }
-                default ->
-                        throw new IllegalStateException("Procedimiento almacenado no soportado {}".formatted(procedureName));
-            };
-            // Check if the ID is null and throw an exception if so
-            if (id == null) {
-                throw new IllegalStateException("No se recibió un ID generado desde {}".formatted(procedureName));
-            }
-            // Retrieve and return the book entity using the ID
-            return libroRepository.findById(id)
-                    .map(LibroService::entityToResponse)
-                    .orElseThrow(() -> new IdNotFoundException("Libro"));
-        } catch (DataAccessException e) {
-            // Log the error and throw a custom exception with the extracted message
-            log.error("Error al ejecutar SP {}", procedureName, e);
-            String errMsg = extractErrorMessage(e,defaultErrorMessage);
-            log.error("errMsg {}", errMsg);
-            throw new CustomException(errMsg);
-        }
+                return response;
+            } catch (DataAccessException e) {
+                // Log the error and throw the exception mapped from the SQLSTATE or the message
+                log.error("Error al ejecutar SP {}", procedureName, e);
+                throw toException(e, defaultErrorMessage);
+            }
+        });
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<LibroResponse> readAll() {
+        return routineMetrics.record("fn_get_libros", () -> {
+            try {
+                return new LinkedHashSet<>(jdbcTemplate.query(READ_ALL_SQL, LIBRO_ROW_MAPPER));
+            } catch (DataAccessException e) {
+                log.error("Error al obtener libros", e);
+                throw new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<LibroResponse> readPage(String cursor, Integer limit) {
+        int afterId = Pagination.decodeCursor(cursor);
+        int pageSize = Pagination.resolveLimit(limit);
+        return routineMetrics.record("fn_get_libros_page", () -> {
+            try {
+                // Fetch one extra row to know whether there is a next page
+                var rows = jdbcTemplate.query("SELECT * FROM fn_get_libros_page(?, ?)", LIBRO_ROW_MAPPER, afterId, pageSize + 1);
+                return Pagination.toPage(rows, pageSize, LibroResponse::getId);
+            } catch (DataAccessException e) {
+                log.error("Error al obtener página de libros", e);
+                throw new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> readAll(String fields) {
+        FieldSet<LibroResponse> fieldSet = FieldSet.parse(fields, FIELDS);
+        return routineMetrics.record("fn_get_libros", () -> {
+            try {
+                // fn_get_libros is inlined, so only the requested columns of libro_autor_read are read
+                return jdbcTemplate.query("SELECT %s FROM fn_get_libros() ORDER BY libro_id".formatted(fieldSet.columns()), fieldSet.rowMapper());
+            } catch (DataAccessException e) {
+                log.error("Error al obtener libros", e);
+                throw new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> readPage(String cursor, Integer limit, String fields) {
+        FieldSet<LibroResponse> fieldSet = FieldSet.parse(fields, FIELDS);
+        int afterId = Pagination.decodeCursor(cursor);
+        int pageSize = Pagination.resolveLimit(limit);
+        return routineMetrics.record("fn_get_libros_page", () -> {
+            try {
+                // Fetch one extra row to know whether there is a next page
+                var rows = jdbcTemplate.query("SELECT %s FROM fn_get_libros_page(?, ?)".formatted(fieldSet.columns()), fieldSet.rowMapper(), afterId, pageSize + 1);
+                return Pagination.toPage(rows, pageSize, row -> (Integer) row.get("id"));
+            } catch (DataAccessException e) {
+                log.error("Error al obtener página de libros", e);
+                throw new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<LibroResponse> search(String query, String cursor, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new CustomException(ERROR_EMPTY_QUERY_MESSAGE);
+        }
+        int offset = Pagination.decodeOffsetCursor(cursor);
+        int pageSize = Pagination.resolveLimit(limit);
+        return routineMetrics.record("fn_search_libros", () -> {
+            try {
+                // Fetch one extra row to know whether there is a next page
+                var rows = jdbcTemplate.query("SELECT * FROM fn_search_libros(?, ?, ?)", LIBRO_ROW_MAPPER, query.trim(), pageSize + 1, offset);
+                return Pagination.toOffsetPage(rows, pageSize, offset);
+            } catch (DataAccessException e) {
+                log.error("Error al buscar libros", e);
+                throw new CustomException(ERROR_SEARCHING_LIBROS_MESSAGE, e);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AutorLibrosResponse readByAutor(Integer autorId, String cursor, Integer limit) {
+        int afterId = Pagination.decodeCursor(cursor);
+        int pageSize = Pagination.resolveLimit(limit);
+        AutorResponse autor = routineMetrics.record("autor_find_by_id", () -> {
+            return autorRepository.findById(autorId).map(AutorService::entityToResponse);
+        }).orElseThrow(() -> new IdNotFoundException("Autor"));
+        PageResponse<LibroResponse> libros = routineMetrics.record("fn_get_libros", () -> {
+            try {
+                // Fetch one extra row to know whether there is a next page
+                var rows = jdbcTemplate.query(READ_BY_AUTOR_SQL, LIBRO_ROW_MAPPER, autorId, afterId, pageSize + 1);
+                return Pagination.toPage(rows, pageSize, LibroResponse::getId);
+            } catch (DataAccessException e) {
+                log.error("Error al obtener los libros del autor {}", autorId, e);
+                throw new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+            }
+        });
+        // The total is only counted for the first page, as the keyset pages do not count at all
+        Long total = cursor != null ? null : routineMetrics.record("fn_get_libros_count", () -> {
+            try {
+                Long count = jdbcTemplate.queryForObject(COUNT_BY_AUTOR_SQL, Long.class, autorId);
+                return count == null ? 0L : count;
+            } catch (DataAccessException e) {
+                log.error("Error al contar los libros del autor {}", autorId, e);
+                throw new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+            }
+        });
+        return AutorLibrosResponse.builder()
+                .autor(autor)
+                .totalLibros(total)
+                .libros(libros)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LibrosPorDecadaResponse> countByDecada() {
+        return catalogCache.getEstadistica("decadas", () -> routineMetrics.record("fn_libros_por_decada", () -> {
+            try {
+                return jdbcTemplate.query("SELECT * FROM fn_libros_por_decada()", (rs, rowNum) -> LibrosPorDecadaResponse.builder()
+                        .decada(rs.getInt("decada"))
+                        .totalLibros(rs.getLong("total_libros"))
+                        .build());
+            } catch (DataAccessException e) {
+                log.error("Error al contar libros por década", e);
+                throw new CustomException(ERROR_FETCHING_ESTADISTICAS_MESSAGE, e);
+            }
+        }));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LibrosPorNacionalidadResponse> countByNacionalidad() {
+        return catalogCache.getEstadistica("nacionalidades", () -> routineMetrics.record("fn_libros_por_nacionalidad", () -> {
+            try {
+                return jdbcTemplate.query("SELECT * FROM fn_libros_por_nacionalidad()", (rs, rowNum) -> LibrosPorNacionalidadResponse.builder()
+                        .nacionalidad(rs.getString("nacionalidad"))
+                        .totalLibros(rs.getLong("total_libros"))
+                        .build());
+            } catch (DataAccessException e) {
+                log.error("Error al contar libros por nacionalidad", e);
+                throw new CustomException(ERROR_FETCHING_ESTADISTICAS_MESSAGE, e);
+            }
+        }));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TopAutorResponse> topAutores(Integer limit) {
+        int size = Pagination.resolveLimit(limit);
+        return catalogCache.getEstadistica("autores:" + size, () -> routineMetrics.record("fn_top_autores", () -> {
+            try {
+                return jdbcTemplate.query("SELECT * FROM fn_top_autores(?)", (rs, rowNum) -> TopAutorResponse.builder()
+                        .autor(AutorService.AUTOR_ROW_MAPPER.mapRow(rs, rowNum))
+                        .totalLibros(rs.getLong("total_libros"))
+                        .build(), size);
+            } catch (DataAccessException e) {
+                log.error("Error al obtener los autores con más libros", e);
+                throw new CustomException(ERROR_FETCHING_ESTADISTICAS_MESSAGE, e);
+            }
+        }));
+    }
+
+    /**
+     * Streams the catalog using a server side cursor: the fetch size only takes effect inside a transaction,
+     * so at most {@value #EXPORT_FETCH_SIZE} rows are held in memory at any time.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream outputStream) {
+        PreparedStatementCreator statementCreator = connection -> {
+            PreparedStatement ps = connection.prepareStatement(READ_ALL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            return ps;
+        };
         try {
-            return new HashSet<>(jdbcTemplate.query("SELECT l.libro_id, l.titulo, l.anio_publicacion, a.autor_id, a.nombre AS autor_nombre, a.apellido AS autor_apellido, a.nacionalidad AS autor_nacionalidad FROM fn_get_libros() l JOIN autor a ON l.autor_id = a.autor_id",
-                    (rs, rowNum) -> LibroResponse.builder()
-                            .id(rs.getInt("libro_id"))
-                            .titulo(rs.getString("titulo"))
-                            .anioPublicacion(rs.getInt("anio_publicacion"))
-                            .autor(AutorService.entityToResponse(
-                                    new AutorEntity(
-                                            rs.getInt("autor_id"),
-                                            rs.getString("autor_nombre"),
-                                            rs.getString("autor_apellido"),
-                                            rs.getString("autor_nacionalidad")
-                                    )
-                            ))
-                            .build()
-            ));
+            switch (format) {
+                case NDJSON -> exportNdjson(statementCreator, outputStream);
+                case CSV -> exportCsv(statementCreator, outputStream);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Error al escribir la exportación de libros", e);
+            throw new CustomException(ERROR_EXPORTING_LIBROS_MESSAGE, e);
         } catch (DataAccessException e) {
-            log.error("Error al obtener libros", e);
-            throw new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+            log.error("Error al exportar libros", e);
+            throw new CustomException(ERROR_EXPORTING_LIBROS_MESSAGE, e);
+        }
+    }
+
+    private void exportNdjson(PreparedStatementCreator statementCreator, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(LibroResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        AtomicInteger rowCount = new AtomicInteger();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            RowCallbackHandler handler = rs -> {
+                try {
+                    int row = rowCount.incrementAndGet();
+                    writer.writeValue(generator, LIBRO_ROW_MAPPER.mapRow(rs, row));
+                    generator.writeRaw('\n');
+                    flushPeriodically(generator, row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            jdbcTemplate.query(statementCreator, handler);
+        }
+    }
+
+    private void exportCsv(PreparedStatementCreator statementCreator, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        AtomicInteger rowCount = new AtomicInteger();
+        writer.write(EXPORT_CSV_HEADER);
+        writer.write('\n');
+        RowCallbackHandler handler = rs -> {
+            try {
+                writer.write(String.valueOf(rs.getInt("libro_id")));
+                writer.write(',');
+                writer.write(csvValue(rs.getString("titulo")));
+                writer.write(',');
+                writer.write(csvValue(rs.getString("anio_publicacion")));
+                writer.write(',');
+                writer.write(String.valueOf(rs.getInt("autor_id")));
+                writer.write(',');
+                writer.write(csvValue(rs.getString("autor_nombre")));
+                writer.write(',');
+                writer.write(csvValue(rs.getString("autor_apellido")));
+                writer.write(',');
+                writer.write(csvValue(rs.getString("autor_nacionalidad")));
+                writer.write('\n');
+                flushPeriodically(writer, rowCount.incrementAndGet());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        jdbcTemplate.query(statementCreator, handler);
+        writer.flush();
+    }
+
+    /**
+     * Flushes the first rows right away so the client receives the first byte quickly, then every
+     * {@value #EXPORT_FLUSH_ROWS} rows.
+     */
+    private static void flushPeriodically(Flushable flushable, int row) throws IOException {
+        if (row == 1 || row % EXPORT_FLUSH_ROWS == 0) {
+            flushable.flush();
+        }
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    /**
+     * Creates the valid books with a single JDBC batch and builds each response from the request, the generated id
+     * and the authors loaded once for the whole batch, so no row is read back.
+     * The rules of uspLibroInsert are applied beforehand: bean validation covers the required fields and the
+     * author existence is checked with one query for all the items.
+     */
+    @Override
+    @Transactional
+    public BatchResponse<LibroResponse> createBatch(List<LibroRequest> requests) {
+        BatchResults.validateSize(requests);
+        List<BatchItemResponse<LibroResponse>> results = new ArrayList<>(Collections.<BatchItemResponse<LibroResponse>>nCopies(requests.size(), null));
+        List<Integer> valid = validateItems(requests, results);
+        Map<Integer, AutorResponse> autores = findAutores(valid.stream().map(i -> requests.get(i).getIdAutor()).toList());
+        List<Integer> toInsert = withExistingAutor(valid, i -> requests.get(i).getIdAutor(), autores, results);
+
+        if (!toInsert.isEmpty()) {
+            try {
+                PreparedStatementCreator statementCreator = connection -> connection.prepareStatement(BATCH_INSERT_SQL, new String[]{"libro_id"});
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(statementCreator, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setLibroValues(ps, requests.get(toInsert.get(i)));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return toInsert.size();
+                    }
+                }, keyHolder);
+                List<Map<String, Object>> keys = keyHolder.getKeyList();
+                for (int i = 0; i < toInsert.size(); i++) {
+                    int index = toInsert.get(i);
+                    Integer id = ((Number) keys.get(i).get("libro_id")).intValue();
+                    results.set(index, BatchResults.success(index, HttpStatus.CREATED, requestToResponse(id, requests.get(index), autores)));
+                }
+                eventPublisher.publishEvent(CatalogChangedEvent.libros(keys.stream().map(key -> ((Number) key.get("libro_id")).intValue()).toList()));
+            } catch (DataAccessException e) {
+                log.error("Error al insertar el lote de libros", e);
+                throw new CustomException(extractErrorMessage(e, ERROR_BATCH_LIBROS_MESSAGE));
+            }
+        }
+        return BatchResults.summarize(results);
+    }
+
+    /**
+     * Updates the valid books with a single JDBC batch; the affected row count of each statement tells whether the
+     * book exists. Responses are built from the request and the authors loaded once for the whole batch.
+     */
+    @Override
+    @Transactional
+    public BatchResponse<LibroResponse> updateBatch(List<LibroBatchUpdateRequest> requests) {
+        BatchResults.validateSize(requests);
+        List<BatchItemResponse<LibroResponse>> results = new ArrayList<>(Collections.<BatchItemResponse<LibroResponse>>nCopies(requests.size(), null));
+        List<Integer> valid = validateItems(requests, results);
+        Map<Integer, AutorResponse> autores = findAutores(valid.stream().map(i -> requests.get(i).getLibro().getIdAutor()).toList());
+        List<Integer> toUpdate = withExistingAutor(valid, i -> requests.get(i).getLibro().getIdAutor(), autores, results);
+
+        if (!toUpdate.isEmpty()) {
+            try {
+                catalogCache.evictLibros(toUpdate.stream().map(i -> requests.get(i).getId()).toList());
+                int[] counts = jdbcTemplate.batchUpdate(BATCH_UPDATE_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        LibroBatchUpdateRequest request = requests.get(toUpdate.get(i));
+                        setLibroValues(ps, request.getLibro());
+                        ps.setInt(4, request.getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return toUpdate.size();
+                    }
+                });
+                for (int i = 0; i < toUpdate.size(); i++) {
+                    int index = toUpdate.get(i);
+                    LibroBatchUpdateRequest request = requests.get(index);
+                    if (counts[i] == 0) {
+                        results.set(index, BatchResults.failure(index, HttpStatus.NOT_FOUND, Map.of("id", LIBRO_NOT_FOUND_MESSAGE)));
+                    } else {
+                        results.set(index, BatchResults.success(index, HttpStatus.OK, requestToResponse(request.getId(), request.getLibro(), autores)));
+                    }
+                }
+                eventPublisher.publishEvent(CatalogChangedEvent.libros(toUpdate.stream().map(i -> requests.get(i).getId()).toList()));
+            } catch (DataAccessException e) {
+                log.error("Error al actualizar el lote de libros", e);
+                throw new CustomException(extractErrorMessage(e, ERROR_BATCH_LIBROS_MESSAGE));
+            }
+        }
+        return BatchResults.summarize(results);
+    }
+
+    private <T> List<Integer> validateItems(List<T> requests, List<BatchItemResponse<LibroResponse>> results) {
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Map<String, String> errors = BatchResults.violations(validator, requests.get(i));
+            if (errors.isEmpty()) {
+                valid.add(i);
+            } else {
+                results.set(i, BatchResults.failure(i, HttpStatus.BAD_REQUEST, errors));
+            }
+        }
+        return valid;
+    }
+
+    private List<Integer> withExistingAutor(List<Integer> indexes, Function<Integer, Integer> autorIdOf,
+                                            Map<Integer, AutorResponse> autores, List<BatchItemResponse<LibroResponse>> results) {
+        List<Integer> existing = new ArrayList<>();
+        for (Integer index : indexes) {
+            if (autores.containsKey(autorIdOf.apply(index))) {
+                existing.add(index);
+            } else {
+                results.set(index, BatchResults.failure(index, HttpStatus.NOT_FOUND, Map.of("idAutor", AUTOR_NOT_FOUND_MESSAGE)));
+            }
+        }
+        return existing;
+    }
+
+    private Map<Integer, AutorResponse> findAutores(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
         }
+        Integer[] distinctIds = new HashSet<>(ids).toArray(Integer[]::new);
+        return jdbcTemplate.query(AUTORES_BY_IDS_SQL, AutorService.AUTOR_ROW_MAPPER, (Object) distinctIds).stream()
+                .collect(Collectors.toMap(AutorResponse::getId, Function.identity()));
+    }
+
+    private static void setLibroValues(PreparedStatement ps, LibroRequest request) throws SQLException {
+        ps.setString(1, request.getTitulo());
+        ps.setInt(2, request.getAnioPublicacion());
+        ps.setInt(3, request.getIdAutor());
+    }
+
+    private static LibroResponse requestToResponse(Integer id, LibroRequest request, Map<Integer, AutorResponse> autores) {
+        return LibroResponse.builder()
+                .id(id)
+                .titulo(request.getTitulo())
+                .anioPublicacion(request.getAnioPublicacion())
+                .autor(autores.get(request.getIdAutor()))
+                .build();
     }
 
     @Override
     @Transactional
     public LibroResponse create(LibroRequest request) {
-        return executeStoredProcedure(
+        LibroResponse response = executeStoredProcedure(
                 "uspLibroInsert",
                 Map.of(
                         "l_titulo", request.getTitulo(),
@@ -147,19 +628,55 @@ public class LibroService implements ILIbroService {
                 ),
                 ERROR_CREATING_LIBRO_MESSAGE
         );
+        eventPublisher.publishEvent(CatalogChangedEvent.libros(List.of(response.getId())));
+        return response;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public LibroResponse readById(Integer id) {
-        return libroRepository.findById(id)
-                .map(LibroService::entityToResponse)
-                .orElseThrow(() -> new IdNotFoundException("Libro"));
+        return catalogCache.getLibro(id, key -> routineMetrics.record("fn_get_libros", () -> {
+            try {
+                return jdbcTemplate.query(READ_BY_ID_SQL, LIBRO_ROW_MAPPER, key).stream()
+                        .findFirst()
+                        .orElseThrow(() -> new IdNotFoundException("Libro"));
+            } catch (DataAccessException e) {
+                log.error("Error al obtener el libro {}", key, e);
+                throw new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+            }
+        }));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponse<LibroResponse> readByIds(List<Integer> ids) {
+        Set<Integer> distinctIds = MultiGet.distinctIds(ids);
+        // Cached books are served from memory, the misses are resolved together with one query
+        Map<Integer, LibroResponse> found = catalogCache.getLibros(distinctIds, misses -> routineMetrics.record("fn_get_libros", () -> {
+            try {
+                return jdbcTemplate.query(READ_BY_IDS_SQL, LIBRO_ROW_MAPPER, (Object) misses.toArray(Integer[]::new)).stream()
+                        .collect(Collectors.toMap(LibroResponse::getId, Function.identity()));
+            } catch (DataAccessException e) {
+                log.error("Error al obtener los libros {}", misses, e);
+                throw new CustomException(ERROR_FETCHING_LIBROS_MESSAGE, e);
+            }
+        }));
+        return MultiGet.toResponse(distinctIds, found);
+    }
+
+    // Projected from the cached book, a hit does not reach the database
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> readById(Integer id, String fields) {
+        FieldSet<LibroResponse> fieldSet = FieldSet.parse(fields, FIELDS);
+        return fieldSet.project(readById(id));
     }
 
     @Override
     @Transactional
     public LibroResponse update(LibroRequest request, Integer id) {
-        return executeStoredProcedure(
+        catalogCache.evictLibro(id);
+        LibroResponse response = executeStoredProcedure(
                 "uspLibroUpdate",
                 Map.of(
                         "l_libro_id", id,
@@ -169,17 +686,27 @@ public class LibroService implements ILIbroService {
                 ),
                 ERROR_UPDATING_LIBRO_MESSAGE
         );
+        eventPublisher.publishEvent(CatalogChangedEvent.libros(List.of(id)));
+        return response;
     }
 
     @Override
     @Transactional
     public void delete(Integer id) {
-        try {
-            jdbcTemplate.update("CALL uspLibroDelete(?)", id);
-        } catch (DataAccessException e) {
-            log.error("Error al ejecutar SP uspLibroDelete", e);
-            throw new CustomException(extractErrorMessage(e, ERROR_DELETING_LIBRO_MESSAGE));
-        }
+        routineMetrics.record("uspLibroDelete", () -> {
+            try {
+                jdbcTemplate.update("CALL uspLibroDelete(?)", id);
+                catalogCache.evictLibro(id);
+                eventPublisher.publishEvent(CatalogChangedEvent.libros(List.of(id)));
+            } catch (DataAccessException e) {
+                log.error("Error al ejecutar SP uspLibroDelete", e);
+                throw toException(e, ERROR_DELETING_LIBRO_MESSAGE);
+            }
+        });
+    }
+
+    private static Function<LibroResponse, Object> autor(Function<AutorResponse, Object> getter) {
+        return libro -> libro.getAutor() == null ? null : getter.apply(libro.getAutor());
     }
 
     public static LibroResponse entityToResponse(LibroEntity libro) {
@@ -187,7 +714,7 @@ public class LibroService implements ILIbroService {
                 .id(libro.getId())
                 .titulo(libro.getTitulo())
                 .anioPublicacion(libro.getAnioPublicacion())
-                .autor(AutorService.entityToResponse(libro.getAutorEntity()))
+                .autor(libro.getAutorEntity() == null ? null : AutorService.entityToResponse(libro.getAutorEntity()))
                 .build();
 
     }
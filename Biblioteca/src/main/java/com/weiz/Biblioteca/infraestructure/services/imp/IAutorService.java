@@ -2,8 +2,39 @@ package com.weiz.Biblioteca.infraestructure.services.imp;
 
 import com.weiz.Biblioteca.api.requests.AutorRequest;
 import com.weiz.Biblioteca.api.responses.AutorResponse;
+import com.weiz.Biblioteca.api.responses.MultiGetResponse;
+import com.weiz.Biblioteca.api.responses.BatchResponse;
+import com.weiz.Biblioteca.api.responses.ImportResponse;
 import com.weiz.Biblioteca.infraestructure.abstractService.CrudService;
 
+import java.io.InputStream;
+import java.util.List;
+
 public interface IAutorService extends CrudService<AutorRequest, AutorResponse, Integer> {
 
+    /**
+     * Imports authors from a CSV stream with the columns nombre, apellido and nacionalidad (first line is the header).
+     * Rows that break the rules of uspAutorInsert are rejected and reported, the rest are inserted.
+     *
+     * @param inputStream The CSV content, read as it arrives.
+     * @return A summary with the inserted and rejected rows.
+     */
+    ImportResponse importCsv(InputStream inputStream);
+
+    /**
+     * Creates several authors in a single transaction using batched statements.
+     * Invalid items are reported individually and do not prevent the valid ones from being created.
+     *
+     * @param requests The authors to create.
+     * @return The result of each item, in the same order as the requests.
+     */
+    BatchResponse<AutorResponse> createBatch(List<AutorRequest> requests);
+
+    /**
+     * Reads several authors by id with a single query, serving the cached ones from memory.
+     *
+     * @param ids The ids to read, repeated ids are returned once.
+     * @return The authors found in the requested order and the ids that do not exist.
+     */
+    MultiGetResponse<AutorResponse> readByIds(List<Integer> ids);
 }
@@ -1,8 +1,101 @@
 package com.weiz.Biblioteca.infraestructure.services.imp;
 
+import com.weiz.Biblioteca.api.requests.LibroBatchUpdateRequest;
 import com.weiz.Biblioteca.api.requests.LibroRequest;
+import com.weiz.Biblioteca.api.responses.AutorLibrosResponse;
+import com.weiz.Biblioteca.api.responses.BatchResponse;
 import com.weiz.Biblioteca.api.responses.LibroResponse;
+import com.weiz.Biblioteca.api.responses.MultiGetResponse;
+import com.weiz.Biblioteca.api.responses.LibrosPorDecadaResponse;
+import com.weiz.Biblioteca.api.responses.LibrosPorNacionalidadResponse;
+import com.weiz.Biblioteca.api.responses.PageResponse;
+import com.weiz.Biblioteca.api.responses.TopAutorResponse;
 import com.weiz.Biblioteca.infraestructure.abstractService.CrudService;
+import com.weiz.Biblioteca.util.ExportFormat;
+
+import java.io.OutputStream;
+import java.util.List;
 
 public interface ILIbroService extends CrudService<LibroRequest, LibroResponse, Integer> {
+
+    /**
+     * Streams the whole book catalog to the given output stream without materializing it in memory.
+     *
+     * @param format       The output format, NDJSON or CSV.
+     * @param outputStream The stream where the rows are written as they are read from the database.
+     */
+    void export(ExportFormat format, OutputStream outputStream);
+
+    /**
+     * Searches books by title and author name, ignoring accents and tolerating typos.
+     * Results are ordered by relevance.
+     *
+     * @param query  The text to search.
+     * @param cursor Opaque cursor returned by the previous page, null for the first page.
+     * @param limit  Maximum number of records in the page, null for the default size.
+     * @return The requested page of results and the cursor of the next one.
+     */
+    PageResponse<LibroResponse> search(String query, String cursor, Integer limit);
+
+    /**
+     * Reads one page of the books of an author, ordered by id, together with the author and, on the first page, its
+     * total of books.
+     *
+     * @param autorId The id of the author.
+     * @param cursor  Opaque cursor returned by the previous page, null for the first page.
+     * @param limit   Maximum number of records in the page, null for the default size.
+     * @return The author, the requested page and the total of books; the total is null when a cursor is given.
+     */
+    AutorLibrosResponse readByAutor(Integer autorId, String cursor, Integer limit);
+
+    /**
+     * Creates several books in a single transaction using batched statements.
+     * Invalid items are reported individually and do not prevent the valid ones from being created.
+     *
+     * @param requests The books to create.
+     * @return The result of each item, in the same order as the requests.
+     */
+    BatchResponse<LibroResponse> createBatch(List<LibroRequest> requests);
+
+    /**
+     * Updates several books in a single transaction using batched statements.
+     * Invalid or missing items are reported individually and do not prevent the others from being updated.
+     *
+     * @param requests The books to update, each one with its id.
+     * @return The result of each item, in the same order as the requests.
+     */
+    BatchResponse<LibroResponse> updateBatch(List<LibroBatchUpdateRequest> requests);
+
+    /**
+     * Counts the books of each publication decade, ordered by decade.
+     * The result is cached until the next write to the catalog.
+     *
+     * @return One entry per decade with at least one book.
+     */
+    List<LibrosPorDecadaResponse> countByDecada();
+
+    /**
+     * Counts the books by the nationality of their author, from the largest group to the smallest.
+     * The result is cached until the next write to the catalog.
+     *
+     * @return One entry per nationality with at least one book.
+     */
+    List<LibrosPorNacionalidadResponse> countByNacionalidad();
+
+    /**
+     * Reads the authors with the most books, from the largest total to the smallest.
+     * The result is cached until the next write to the catalog.
+     *
+     * @param limit Maximum number of authors, null for the default size.
+     * @return The authors with their total of books.
+     */
+    List<TopAutorResponse> topAutores(Integer limit);
+
+    /**
+     * Reads several books by id with a single query, serving the cached ones from memory.
+     *
+     * @param ids The ids to read, repeated ids are returned once.
+     * @return The books found in the requested order and the ids that do not exist.
+     */
+    MultiGetResponse<LibroResponse> readByIds(List<Integer> ids);
 }
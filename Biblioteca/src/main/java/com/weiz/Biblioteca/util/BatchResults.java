@@ -0,0 +1,81 @@
+package com.weiz.Biblioteca.util;
+
+import com.weiz.Biblioteca.api.responses.BatchItemResponse;
+import com.weiz.Biblioteca.api.responses.BatchResponse;
+import com.weiz.Biblioteca.util.Exceptions.CustomException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers shared by the batch endpoints to validate items and report a result for each of them.
+ */
+public final class BatchResults {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private static final String ERROR_EMPTY_BATCH_MESSAGE = "La lista no puede estar vacía";
+    private static final String ERROR_BATCH_SIZE_MESSAGE = "La lista no puede exceder los %d elementos";
+    private static final String ERROR_NULL_ITEM_MESSAGE = "El elemento no puede ser nulo";
+
+    private BatchResults() {
+    }
+
+    public static void validateSize(List<?> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new CustomException(ERROR_EMPTY_BATCH_MESSAGE);
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new CustomException(ERROR_BATCH_SIZE_MESSAGE.formatted(MAX_BATCH_SIZE));
+        }
+    }
+
+    /**
+     * Runs bean validation over a single item, the same way {@code @Valid} does for single requests.
+     *
+     * @return A map of field to error message, empty when the item is valid.
+     */
+    public static Map<String, String> violations(Validator validator, Object request) {
+        Map<String, String> errors = new HashMap<>();
+        if (request == null) {
+            errors.put("request", ERROR_NULL_ITEM_MESSAGE);
+            return errors;
+        }
+        for (ConstraintViolation<Object> violation : validator.validate(request)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    public static <T> BatchItemResponse<T> success(int index, HttpStatus status, T data) {
+        return BatchItemResponse.<T>builder()
+                .index(index)
+                .status(status.name())
+                .code(status.value())
+                .data(data)
+                .build();
+    }
+
+    public static <T> BatchItemResponse<T> failure(int index, HttpStatus status, Map<String, String> errors) {
+        return BatchItemResponse.<T>builder()
+                .index(index)
+                .status(status.name())
+                .code(status.value())
+                .errors(errors)
+                .build();
+    }
+
+    public static <T> BatchResponse<T> summarize(List<BatchItemResponse<T>> items) {
+        int failed = (int) items.stream().filter(item -> item.getErrors() != null).count();
+        return BatchResponse.<T>builder()
+                .total(items.size())
+                .succeeded(items.size() - failed)
+                .failed(failed)
+                .items(items)
+                .build();
+    }
+}
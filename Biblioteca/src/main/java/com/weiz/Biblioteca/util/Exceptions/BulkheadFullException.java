@@ -0,0 +1,15 @@
+package com.weiz.Biblioteca.util.Exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class BulkheadFullException extends RuntimeException {
+    private static final String ERROR_MESSAGE = "El servicio está ocupado, intente nuevamente en %d segundos";
+
+    private final long retryAfterSeconds;
+
+    public BulkheadFullException(long retryAfterSeconds) {
+        super(String.format(ERROR_MESSAGE, retryAfterSeconds));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
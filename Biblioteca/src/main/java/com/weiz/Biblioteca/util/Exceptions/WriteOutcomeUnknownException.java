@@ -0,0 +1,13 @@
+package com.weiz.Biblioteca.util.Exceptions;
+
+/**
+ * A write that did not finish within its timeout. It may still commit afterwards, so the client must check the
+ * resource before retrying instead of repeating the write blindly.
+ */
+public class WriteOutcomeUnknownException extends RuntimeException {
+    private static final String ERROR_MESSAGE = "La escritura no terminó a tiempo y puede completarse más tarde; consulte el recurso antes de reintentar";
+
+    public WriteOutcomeUnknownException(Throwable cause) {
+        super(ERROR_MESSAGE, cause);
+    }
+}
@@ -0,0 +1,26 @@
+package com.weiz.Biblioteca.util;
+
+import com.weiz.Biblioteca.util.Exceptions.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private static final String ERROR_UNSUPPORTED_FORMAT_MESSAGE = "Formato de exportación no soportado: %s";
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ERROR_UNSUPPORTED_FORMAT_MESSAGE.formatted(value)));
+    }
+}
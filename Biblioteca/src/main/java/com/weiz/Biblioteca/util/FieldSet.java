@@ -0,0 +1,107 @@
+package com.weiz.Biblioteca.util;
+
+import com.weiz.Biblioteca.util.Exceptions.CustomException;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset requested with {@code fields=}, e.g. {@code fields=titulo,autor.nombre}.
+ * Only the columns of the requested fields are selected and only those fields are serialized. A nested field can be
+ * requested by its path or as a whole by its prefix ({@code autor}). The id is always included, it is the key of
+ * the pagination cursor.
+ *
+ * @param <T> The full response the fields are taken from.
+ */
+public final class FieldSet<T> {
+
+    private static final String ERROR_UNKNOWN_FIELD_MESSAGE = "Campo desconocido: %s";
+
+    private final List<Field<T>> fields;
+
+    private FieldSet(List<Field<T>> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parses the requested fields.
+     *
+     * @param fields    Comma separated paths; null or blank selects every field.
+     * @param available Every field of the response, the first one being the id.
+     * @return The requested fields in the order of {@code available}.
+     * @throws CustomException If a field does not exist.
+     */
+    public static <T> FieldSet<T> parse(String fields, List<Field<T>> available) {
+        if (fields == null || fields.isBlank()) {
+            return new FieldSet<>(available);
+        }
+        Set<Field<T>> requested = new LinkedHashSet<>();
+        requested.add(available.get(0));
+        for (String name : fields.split(",")) {
+            String path = name.trim();
+            List<Field<T>> matching = available.stream()
+                    .filter(field -> field.path().equals(path) || field.path().startsWith(path + "."))
+                    .toList();
+            if (path.isEmpty() || matching.isEmpty()) {
+                throw new CustomException(ERROR_UNKNOWN_FIELD_MESSAGE.formatted(path));
+            }
+            requested.addAll(matching);
+        }
+        return new FieldSet<>(available.stream().filter(requested::contains).toList());
+    }
+
+    /**
+     * @return The SELECT list of the requested fields. Columns only come from the declared fields, never from the request.
+     */
+    public String columns() {
+        return fields.stream().map(Field::column).collect(Collectors.joining(", "));
+    }
+
+    public RowMapper<Map<String, Object>> rowMapper() {
+        return (rs, rowNum) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (Field<T> field : fields) {
+                put(row, field.path(), rs.getObject(field.column()));
+            }
+            return row;
+        };
+    }
+
+    /**
+     * Keeps only the requested fields of a response that is already built, e.g. one taken from the cache.
+     */
+    public Map<String, Object> project(T response) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (Field<T> field : fields) {
+            put(row, field.path(), field.getter().apply(response));
+        }
+        return row;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> row, String path, Object value) {
+        int dot = path.indexOf('.');
+        if (dot < 0) {
+            row.put(path, value);
+            return;
+        }
+        Map<String, Object> nested = (Map<String, Object>) row.computeIfAbsent(path.substring(0, dot), key -> new LinkedHashMap<>());
+        put(nested, path.substring(dot + 1), value);
+    }
+
+    /**
+     * A field of the response.
+     *
+     * @param path   Its JSON path, with a dot for nested objects.
+     * @param column The column of the query that holds it.
+     * @param getter Reads it from the full response.
+     */
+    public record Field<T>(String path, String column, Function<T, Object> getter) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.weiz.Biblioteca.util;
+
+import com.weiz.Biblioteca.api.responses.MultiGetResponse;
+import com.weiz.Biblioteca.util.Exceptions.CustomException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Helpers shared by the multi-get endpoints, which read several records by id with a single query.
+ */
+public final class MultiGet {
+
+    private static final String ERROR_NULL_ID_MESSAGE = "El id no puede ser nulo";
+
+    private MultiGet() {
+    }
+
+    /**
+     * Validates the requested ids with the same limits as the batch endpoints and removes the repeated ones.
+     *
+     * @param ids The ids in the order requested by the client.
+     * @return The distinct ids, keeping the order of their first occurrence.
+     * @throws CustomException If the list is empty, too large or contains a null id.
+     */
+    public static Set<Integer> distinctIds(List<Integer> ids) {
+        BatchResults.validateSize(ids);
+        Set<Integer> distinct = new LinkedHashSet<>(ids.size());
+        for (Integer id : ids) {
+            if (id == null) {
+                throw new CustomException(ERROR_NULL_ID_MESSAGE);
+            }
+            distinct.add(id);
+        }
+        return distinct;
+    }
+
+    /**
+     * Builds the response in the requested order, listing the ids that were not found instead of failing.
+     *
+     * @param ids   The distinct ids in the requested order.
+     * @param found The records found, by id.
+     */
+    public static <T> MultiGetResponse<T> toResponse(Set<Integer> ids, Map<Integer, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : ids) {
+            T item = found.get(id);
+            if (item == null) {
+                missing.add(id);
+            } else {
+                items.add(item);
+            }
+        }
+        return MultiGetResponse.<T>builder()
+                .items(items)
+                .missing(missing)
+                .build();
+    }
+}
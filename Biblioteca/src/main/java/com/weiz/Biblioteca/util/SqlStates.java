@@ -0,0 +1,35 @@
+package com.weiz.Biblioteca.util;
+
+import org.springframework.dao.DataAccessException;
+
+import java.sql.SQLException;
+
+/**
+ * SQLSTATE codes raised by the write procedures, so errors are mapped by code instead of by the text of the message.
+ */
+public final class SqlStates {
+
+    // The row to update or delete does not exist
+    public static final String NO_DATA_FOUND = "P0002";
+    // The referenced author does not exist, or the author still has books
+    public static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    private SqlStates() {
+    }
+
+    public static boolean matches(DataAccessException e, String sqlState) {
+        return sqlState.equals(of(e));
+    }
+
+    /**
+     * Returns the SQLSTATE of the first {@link SQLException} in the cause chain, or null when there is none.
+     */
+    public static String of(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                return sqlException.getSQLState();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,164 @@
+package com.weiz.Biblioteca.infraestructure.batching;
+
+import com.weiz.Biblioteca.util.Exceptions.CustomException;
+import com.weiz.Biblioteca.util.Exceptions.WriteOutcomeUnknownException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteCoalescerTests {
+
+    private static final Duration TEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    private WriteCoalescer<Integer, Integer> coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.close();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void closesBatchAtMaxBatchSize() {
+        // The window is far longer than the test: only the size can close the batch
+        coalescer = coalescer(Duration.ofMinutes(1), 3, this::doubleAll);
+
+        List<CompletableFuture<Integer>> results = List.of(submitAsync(1), submitAsync(2), submitAsync(3));
+
+        assertTimeoutPreemptively(TEST_TIMEOUT, () -> {
+            assertEquals(List.of(2, 4, 6), results.stream().map(CompletableFuture::join).toList());
+        });
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+    }
+
+    @Test
+    void closesBatchWhenWindowExpires() {
+        coalescer = coalescer(Duration.ofMillis(20), 100, this::doubleAll);
+
+        Integer result = assertTimeoutPreemptively(TEST_TIMEOUT, () -> coalescer.submit(21));
+
+        assertEquals(42, result);
+        assertEquals(List.of(List.of(21)), batches);
+    }
+
+    @Test
+    void failingItemDoesNotFailTheOthers() {
+        coalescer = coalescer(Duration.ofMinutes(1), 2, batch -> {
+            for (WriteCoalescer.Pending<Integer, Integer> pending : batch) {
+                if (pending.request() < 0) {
+                    pending.fail(new CustomException("Valor inválido"));
+                } else {
+                    pending.complete(pending.request() * 2);
+                }
+            }
+        });
+
+        CompletableFuture<Integer> valid = submitAsync(5);
+        CompletableFuture<Integer> invalid = submitAsync(-1);
+
+        assertTimeoutPreemptively(TEST_TIMEOUT, () -> {
+            assertEquals(10, valid.join());
+            CompletionException error = assertThrows(CompletionException.class, invalid::join);
+            assertInstanceOf(CustomException.class, error.getCause());
+            assertEquals("Valor inválido", error.getCause().getMessage());
+        });
+    }
+
+    @Test
+    void errorInHandlerFailsTheBatchAndKeepsTheFlusher() {
+        coalescer = coalescer(Duration.ofMillis(1), 1, batch -> {
+            if (batch.get(0).request() < 0) {
+                throw new StackOverflowError();
+            }
+            doubleAll(batch);
+        });
+
+        assertTimeoutPreemptively(TEST_TIMEOUT, () -> {
+            IllegalStateException error = assertThrows(IllegalStateException.class, () -> coalescer.submit(-1));
+            assertInstanceOf(StackOverflowError.class, error.getCause());
+            // The only flusher is still alive
+            assertEquals(8, coalescer.submit(4));
+        });
+    }
+
+    @Test
+    void timeoutReportsAnUnknownOutcome() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        coalescer = new WriteCoalescer<>("test", Duration.ofMillis(1), 1, 1, Duration.ofMillis(50), batch -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            doubleAll(batch);
+        }, new SimpleMeterRegistry());
+
+        assertTimeoutPreemptively(TEST_TIMEOUT, () -> {
+            assertThrows(WriteOutcomeUnknownException.class, () -> coalescer.submit(1));
+        });
+        release.countDown();
+    }
+
+    @Test
+    void closeFailsQueuedWrites() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // A single flusher stuck in the first batch, so the next write stays in the queue
+        coalescer = coalescer(Duration.ofMillis(1), 1, batch -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            doubleAll(batch);
+        });
+
+        submitAsync(1);
+        assertTrue(started.await(TEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+        CompletableFuture<Integer> queued = submitAsync(2);
+
+        coalescer.close();
+
+        assertTimeoutPreemptively(TEST_TIMEOUT, () -> {
+            CompletionException error = assertThrows(CompletionException.class, queued::join);
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+        });
+        assertThrows(IllegalStateException.class, () -> coalescer.submit(3));
+        release.countDown();
+    }
+
+    private WriteCoalescer<Integer, Integer> coalescer(Duration window, int maxBatchSize,
+                                                       Consumer<List<WriteCoalescer.Pending<Integer, Integer>>> handler) {
+        return new WriteCoalescer<>("test", window, maxBatchSize, 1, TEST_TIMEOUT, batch -> {
+            batches.add(batch.stream().map(WriteCoalescer.Pending::request).toList());
+            handler.accept(batch);
+        }, new SimpleMeterRegistry());
+    }
+
+    private void doubleAll(List<WriteCoalescer.Pending<Integer, Integer>> batch) {
+        batch.forEach(pending -> pending.complete(pending.request() * 2));
+    }
+
+    private CompletableFuture<Integer> submitAsync(Integer request) {
+        return CompletableFuture.supplyAsync(() -> coalescer.submit(request), callers);
+    }
+}
@@ -0,0 +1,126 @@
+package com.weiz.Biblioteca.infraestructure.services;
+
+import com.weiz.Biblioteca.api.responses.LibroResponse;
+import com.weiz.Biblioteca.infraestructure.cache.CatalogCache;
+import com.weiz.Biblioteca.infraestructure.cache.CatalogVersion;
+import com.weiz.Biblioteca.infraestructure.metrics.RoutineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs against the configured PostgreSQL, which must have the schema and functions of {@code db/sql}.
+ * The rows are committed so the read model triggers fill {@code libro_autor_read}, and deleted afterwards.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LibroServiceTests {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final AtomicInteger statements = new AtomicInteger();
+
+    private LibroService libroService;
+
+    private Integer autorId;
+
+    private Integer libroId;
+
+    @BeforeEach
+    void setUp() {
+        autorId = jdbcTemplate.queryForObject(
+                "INSERT INTO autor (nombre, apellido, nacionalidad) VALUES (?, ?, ?) RETURNING autor_id",
+                Integer.class, "Gabriel", "Garcia Marquez", "Colombiano");
+        libroId = jdbcTemplate.queryForObject(
+                "INSERT INTO libros (titulo, anio_publicacion, autor_id) VALUES (?, ?, ?) RETURNING libro_id",
+                Integer.class, "Cien años de soledad", 1967, autorId);
+
+        JdbcTemplate countingTemplate = new JdbcTemplate(countingDataSource());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        libroService = new LibroService(null, countingTemplate, new NamedParameterJdbcTemplate(countingTemplate),
+                null, null, new CatalogCache(meterRegistry, new CatalogVersion(), 100, Duration.ofMinutes(1)),
+                new RoutineMetrics(meterRegistry), null);
+        statements.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM libros WHERE libro_id = ?", libroId);
+        jdbcTemplate.update("DELETE FROM autor WHERE autor_id = ?", autorId);
+    }
+
+    /**
+     * Building a LibroResponse needs the author, so a miss must read the book and its author in one statement.
+     */
+    @Test
+    void readByIdUsesSingleStatementOnMiss() {
+        LibroResponse response = libroService.readById(libroId);
+
+        assertEquals("Garcia Marquez", response.getAutor().getApellido());
+        assertEquals(1, statements.get());
+    }
+
+    @Test
+    void readByIdDoesNotReachDatabaseOnHit() {
+        libroService.readById(libroId);
+        statements.set(0);
+
+        LibroResponse response = libroService.readById(libroId);
+
+        assertEquals("Cien años de soledad", response.getTitulo());
+        assertEquals(0, statements.get());
+    }
+
+    // Counts every statement created on the connections of the data source
+    private DataSource countingDataSource() {
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(dataSource, method, args);
+                    return result instanceof Connection connection ? countingConnection(connection) : result;
+                });
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (STATEMENT_METHODS.contains(method.getName())) {
+                        statements.incrementAndGet();
+                    }
+                    return invoke(connection, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}